@@ -0,0 +1,88 @@
+package dev.sample.framework.benchmarks;
+
+import dev.sample.framework.benchmarks.payload.Payloads;
+import dev.sample.framework.benchmarks.payload.SampleDto;
+import dev.sample.framework.benchmarks.payload.SampleItemDto;
+import dev.sample.framework.core.util.BeanUtilsExt;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link BeanUtilsExt}のベンチマーク.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanUtilsExtBenchmark {
+
+  /** 明細の件数. */
+  @Param({"1", "10", "100"})
+  private int size;
+
+  /** コピー元のBean. */
+  private SampleDto orig;
+
+  /**
+   * コピー元のBeanを生成します.
+   */
+  @Setup
+  public void setup() {
+    orig = Payloads.dto(size);
+  }
+
+  /**
+   * {@link BeanUtilsExt#copyProperties(Class, Object)}.
+   *
+   * @return コピー先のBean
+   */
+  @Benchmark
+  public SampleDto copyProperties() {
+    return BeanUtilsExt.copyProperties(SampleDto.class, orig);
+  }
+
+  /**
+   * {@link BeanUtilsExt#copyPropertiesList(Class, java.util.Collection)}.
+   *
+   * @return コピー先のBeanのリスト
+   */
+  @Benchmark
+  public List<SampleItemDto> copyPropertiesList() {
+    return BeanUtilsExt.copyPropertiesList(SampleItemDto.class, orig.getItems());
+  }
+
+  /**
+   * {@link BeanUtilsExt#deepCopy(java.io.Serializable)}.
+   *
+   * @return コピーしたBean
+   */
+  @Benchmark
+  public SampleDto deepCopy() {
+    return BeanUtilsExt.deepCopy(orig);
+  }
+
+  /**
+   * シリアライズによるdeep copy({@link BeanUtilsExt#deepCopy(java.io.Serializable)}との比較用).
+   *
+   * @return コピーしたBean
+   */
+  @Benchmark
+  public SampleDto deepCopyBySerialization() {
+    return SerializationUtils.clone(orig);
+  }
+
+}
@@ -0,0 +1,85 @@
+package dev.sample.framework.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <PRE>
+ * ベンチマーク実行クラス.
+ * スレッド数ごとにベンチマークを実行し、すべての結果を1つのJSONファイルに出力します.
+ * 出力したJSONファイルはコミット間の比較(JMH Visualizerなど)に使用します.
+ *
+ * 実行方法:
+ *   mvn -pl sample-framework-benchmarks -am package
+ *   java -jar sample-framework-benchmarks/target/benchmarks.jar [JMHのオプション]
+ *
+ * システムプロパティ:
+ *   benchmark.threads  スレッド数(カンマ区切り、デフォルト：1,4)
+ *   benchmark.result   結果の出力先(デフォルト：target/jmh-result.json)
+ * </PRE>
+ */
+@UtilityClass
+@Slf4j
+public class BenchmarkRunner {
+
+  /** システムプロパティ：スレッド数. */
+  private static final String PROPERTY_THREADS = "benchmark.threads";
+
+  /** システムプロパティ：結果の出力先. */
+  private static final String PROPERTY_RESULT = "benchmark.result";
+
+  /** デフォルトのスレッド数. */
+  private static final String DEFAULT_THREADS = "1,4";
+
+  /** デフォルトの結果の出力先. */
+  private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+  /** 実行対象のベンチマーク(本パッケージ配下のすべて). */
+  private static final String INCLUDE = BenchmarkRunner.class.getPackage().getName() + ".*Benchmark.*";
+
+  /**
+   * ベンチマークを実行します.
+   * 引数はJMHのコマンドラインオプションとして解釈します(スレッド数、結果の出力先はシステムプロパティで指定).
+   *
+   * @param args JMHのコマンドラインオプション
+   * @throws RunnerException ベンチマークの実行に失敗した場合
+   * @throws CommandLineOptionException コマンドラインオプションが不正な場合
+   */
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    File result = new File(System.getProperty(PROPERTY_RESULT, DEFAULT_RESULT));
+
+    List<RunResult> results = new ArrayList<>();
+    for (String threads : StringUtils.split(System.getProperty(PROPERTY_THREADS, DEFAULT_THREADS), ',')) {
+      ChainedOptionsBuilder options = new OptionsBuilder()
+          .parent(commandLineOptions)
+          .threads(Integer.parseInt(threads.trim()));
+      if (commandLineOptions.getIncludes().isEmpty()) {
+        options.include(INCLUDE);
+      }
+      Collection<RunResult> runResults = new Runner(options.build()).run();
+      results.addAll(runResults);
+    }
+
+    if (result.getParentFile() != null) {
+      result.getParentFile().mkdirs();
+    }
+    ResultFormatFactory.getInstance(ResultFormatType.JSON, result.getPath()).writeOut(results);
+    log.info("benchmark result: {}", result.getAbsolutePath());
+  }
+
+}
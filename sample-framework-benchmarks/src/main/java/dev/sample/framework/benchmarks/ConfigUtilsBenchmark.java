@@ -0,0 +1,99 @@
+package dev.sample.framework.benchmarks;
+
+import dev.sample.framework.core.config.ConfigUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ConfigUtils}のベンチマーク.
+ * 設定値は本モジュールのapplication.confに定義します.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigUtilsBenchmark {
+
+  /** キーの階層の深さ. */
+  @Param({"1", "5", "10"})
+  private int size;
+
+  /** キーの接頭辞. */
+  private String prefix;
+
+  /**
+   * キーの接頭辞を生成します.
+   */
+  @Setup
+  public void setup() {
+    StringBuilder path = new StringBuilder("benchmark");
+    for (int i = 1; i < size; i++) {
+      path.append(".nested");
+    }
+    prefix = path.append(".").toString();
+  }
+
+  /**
+   * {@link ConfigUtils#getAsBoolean(String)}.
+   *
+   * @return 設定値
+   */
+  @Benchmark
+  public boolean getAsBoolean() {
+    return ConfigUtils.getAsBoolean(prefix + "booleanValue");
+  }
+
+  /**
+   * {@link ConfigUtils#getAsInt(String)}.
+   *
+   * @return 設定値
+   */
+  @Benchmark
+  public int getAsInt() {
+    return ConfigUtils.getAsInt(prefix + "intValue");
+  }
+
+  /**
+   * {@link ConfigUtils#getAsString(String)}.
+   *
+   * @return 設定値
+   */
+  @Benchmark
+  public String getAsString() {
+    return ConfigUtils.getAsString(prefix + "stringValue");
+  }
+
+  /**
+   * {@link ConfigUtils#getAsStringList(String)}.
+   *
+   * @return 設定値
+   */
+  @Benchmark
+  public List<String> getAsStringList() {
+    return ConfigUtils.getAsStringList(prefix + "stringListValue");
+  }
+
+  /**
+   * {@link ConfigUtils#getAsString(String)}(キーが存在しない場合).
+   *
+   * @return 設定値
+   */
+  @Benchmark
+  public String getAsStringMissing() {
+    return ConfigUtils.getAsString(prefix + "missingValue");
+  }
+
+}
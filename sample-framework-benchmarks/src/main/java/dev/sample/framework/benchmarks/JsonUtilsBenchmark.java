@@ -0,0 +1,69 @@
+package dev.sample.framework.benchmarks;
+
+import dev.sample.framework.benchmarks.payload.Payloads;
+import dev.sample.framework.benchmarks.payload.SampleDto;
+import dev.sample.framework.core.util.JsonUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link JsonUtils}のベンチマーク.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+
+  /** 明細の件数. */
+  @Param({"1", "10", "100"})
+  private int size;
+
+  /** 出力するBean. */
+  private SampleDto bean;
+
+  /** 読み込むJSON文字列. */
+  private String json;
+
+  /**
+   * Bean、JSON文字列を生成します.
+   */
+  @Setup
+  public void setup() {
+    bean = Payloads.dto(size);
+    json = JsonUtils.writeValue(bean);
+  }
+
+  /**
+   * {@link JsonUtils#readValue(String, Class)}.
+   *
+   * @return Bean
+   */
+  @Benchmark
+  public SampleDto readValue() {
+    return JsonUtils.readValue(json, SampleDto.class);
+  }
+
+  /**
+   * {@link JsonUtils#writeValue(Object)}.
+   *
+   * @return JSON文字列
+   */
+  @Benchmark
+  public String writeValue() {
+    return JsonUtils.writeValue(bean);
+  }
+
+}
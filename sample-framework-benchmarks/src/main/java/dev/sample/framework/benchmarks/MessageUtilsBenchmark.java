@@ -0,0 +1,65 @@
+package dev.sample.framework.benchmarks;
+
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.util.MessageUtils;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MessageUtils}のベンチマーク.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageUtilsBenchmark {
+
+  /** パラメーターの文字数. */
+  @Param({"1", "10", "100"})
+  private int size;
+
+  /** パラメーター. */
+  private String param;
+
+  /**
+   * パラメーターを生成します.
+   */
+  @Setup
+  public void setup() {
+    param = StringUtils.repeat('x', size);
+  }
+
+  /**
+   * {@link MessageUtils#getMessage(dev.sample.framework.core.message.MessageId, String...)}(パラメーターのみのメッセージ).
+   *
+   * @return メッセージ
+   */
+  @Benchmark
+  public String getMessage() {
+    return MessageUtils.getMessage(CoreMessageId.F0013D, param, param, param);
+  }
+
+  /**
+   * {@link MessageUtils#getMessage(dev.sample.framework.core.message.MessageId, String...)}(パラメーターを含む日本語メッセージ).
+   *
+   * @return メッセージ
+   */
+  @Benchmark
+  public String getMessageWithText() {
+    return MessageUtils.getMessage(CoreMessageId.F0001E, param, param);
+  }
+
+}
@@ -0,0 +1,71 @@
+package dev.sample.framework.benchmarks;
+
+import dev.sample.framework.benchmarks.payload.SampleEntity;
+import dev.sample.framework.core.data.condition.PredicateDo;
+import dev.sample.framework.core.data.condition.SearchConditionDo;
+import dev.sample.framework.core.data.condition.SortDo;
+import dev.sample.framework.core.util.QueryBuilder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link QueryBuilder}のベンチマーク.
+ * 検索条件DOはクエリ構築時に更新されるため、スレッドごとに保持します.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryBuilderBenchmark {
+
+  /** IN条件の値の件数. */
+  @Param({"1", "10", "100"})
+  private int size;
+
+  /** 検索条件DO. */
+  private SearchConditionDo searchCondition;
+
+  /**
+   * 検索条件DOを生成します.
+   */
+  @Setup
+  public void setup() {
+    List<Long> ids = new ArrayList<>(size);
+    for (long i = 0; i < size; i++) {
+      ids.add(i);
+    }
+
+    searchCondition = SearchConditionDo.builder().build();
+    searchCondition.getQueryParams().put("name", "sample");
+    searchCondition.getPredicates().add(PredicateDo.in("id", ids));
+    searchCondition.getPredicates().add(PredicateDo.between("birthday", "2000-01-01", LocalDate.of(2000, 12, 31)));
+    searchCondition.getSortList().add(SortDo.builder().field("age").asc(false).build());
+  }
+
+  /**
+   * {@link QueryBuilder#buildQuery(Class, SearchConditionDo)}.
+   *
+   * @return 検索結果を取得するためのクエリ
+   */
+  @Benchmark
+  public String buildQuery() {
+    QueryBuilder.buildQuery(SampleEntity.class, searchCondition);
+    return searchCondition.getSearchQuery();
+  }
+
+}
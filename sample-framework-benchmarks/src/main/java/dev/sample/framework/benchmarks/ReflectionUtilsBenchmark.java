@@ -0,0 +1,62 @@
+package dev.sample.framework.benchmarks;
+
+import dev.sample.framework.benchmarks.payload.Payloads;
+import dev.sample.framework.benchmarks.payload.SampleEntity;
+import dev.sample.framework.core.util.ReflectionUtils;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Id;
+import javax.persistence.Version;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ReflectionUtils}のベンチマーク.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionUtilsBenchmark {
+
+  /** Entity. */
+  private SampleEntity entity;
+
+  /**
+   * Entityを生成します.
+   */
+  @Setup
+  public void setup() {
+    entity = Payloads.entity();
+  }
+
+  /**
+   * {@link ReflectionUtils#getAnnotatedField(Class, Object)}(PK).
+   *
+   * @return PK
+   */
+  @Benchmark
+  public Long getAnnotatedFieldId() {
+    return ReflectionUtils.getAnnotatedField(Id.class, entity);
+  }
+
+  /**
+   * {@link ReflectionUtils#getAnnotatedField(Class, Object)}(バージョン).
+   *
+   * @return バージョン
+   */
+  @Benchmark
+  public Long getAnnotatedFieldVersion() {
+    return ReflectionUtils.getAnnotatedField(Version.class, entity);
+  }
+
+}
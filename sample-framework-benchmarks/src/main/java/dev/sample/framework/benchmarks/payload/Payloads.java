@@ -0,0 +1,67 @@
+package dev.sample.framework.benchmarks.payload;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+/**
+ * ベンチマーク用ペイロードの生成.
+ * 同じサイズを指定した場合は常に同じ内容を生成します.
+ */
+@UtilityClass
+public class Payloads {
+
+  /**
+   * Entityを生成します.
+   *
+   * @return {@link SampleEntity} Entity
+   */
+  public static SampleEntity entity() {
+    return SampleEntity.builder()
+        .id(1L)
+        .name("sample")
+        .age(20)
+        .birthday(LocalDate.of(2000, 1, 1))
+        .version(1L)
+        .build();
+  }
+
+  /**
+   * DTOを生成します.
+   *
+   * @param size 明細、属性の件数
+   * @return {@link SampleDto} DTO
+   */
+  public static SampleDto dto(int size) {
+    List<SampleItemDto> items = new ArrayList<>(size);
+    Map<String, String> attributes = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      items.add(SampleItemDto.builder()
+          .lineNo(i + 1)
+          .itemCode(String.format("ITEM%05d", i))
+          .itemName("item-" + i)
+          .quantity(i % 10 + 1)
+          .price(BigDecimal.valueOf(i * 100L + 99, 2))
+          .build());
+      attributes.put("key" + i, "value" + i);
+    }
+
+    return SampleDto.builder()
+        .id(1L)
+        .name("sample")
+        .age(20)
+        .birthday(LocalDate.of(2000, 1, 1))
+        .active(true)
+        .score(0.5)
+        .updatedAt(LocalDateTime.of(2020, 1, 1, 0, 0))
+        .items(items)
+        .attributes(attributes)
+        .build();
+  }
+
+}
@@ -0,0 +1,33 @@
+package dev.sample.framework.benchmarks.payload;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ベンチマーク用DTO.
+ * 明細、属性の件数でペイロードサイズを調整します.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class SampleDto implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private Long id;
+  private String name;
+  private int age;
+  private LocalDate birthday;
+  private boolean active;
+  private Double score;
+  private LocalDateTime updatedAt;
+  private List<SampleItemDto> items;
+  private Map<String, String> attributes;
+}
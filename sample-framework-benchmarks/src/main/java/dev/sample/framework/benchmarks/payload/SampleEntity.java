@@ -0,0 +1,31 @@
+package dev.sample.framework.benchmarks.payload;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ベンチマーク用Entity.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+public class SampleEntity implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  @Id
+  private Long id;
+  private String name;
+  private int age;
+  private LocalDate birthday;
+  @Version
+  private Long version;
+}
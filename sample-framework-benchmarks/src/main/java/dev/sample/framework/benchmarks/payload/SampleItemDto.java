@@ -0,0 +1,25 @@
+package dev.sample.framework.benchmarks.payload;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ベンチマーク用明細DTO.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class SampleItemDto implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private int lineNo;
+  private String itemCode;
+  private String itemName;
+  private int quantity;
+  private BigDecimal price;
+}
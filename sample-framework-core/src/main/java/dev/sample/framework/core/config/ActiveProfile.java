@@ -2,7 +2,7 @@ package dev.sample.framework.core.config;
 
 import dev.sample.common.constant.Profile;
 import dev.sample.framework.core.message.CoreMessageId;
-import dev.sample.framework.core.util.MessageUtils;
+import dev.sample.framework.core.message.LazyMessage;
 import javax.faces.application.ProjectStage;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +21,7 @@ public class ActiveProfile {
 
   static {
     PROFILE = ConfigUtils.getActiveProfile();
-    log.info(MessageUtils.getMessage(CoreMessageId.F0004I, PROFILE));
+    log.info("{}", LazyMessage.of(CoreMessageId.F0004I, PROFILE));
   }
 
   /**
@@ -0,0 +1,23 @@
+package dev.sample.framework.core.config;
+
+import java.util.Set;
+
+/**
+ * 設定変更リスナー.
+ * 設定ファイルの再読み込みにより設定値が変更された場合に通知されます.
+ * 通知は設定ファイルの監視スレッドで行われるため、時間のかかる処理は行わないでください.
+ *
+ * @see ConfigUtils#addListener(ConfigChangeListener)
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+  /**
+   * 設定値が変更された場合に呼び出されます.
+   * 呼び出し時点で{@link ConfigUtils}からは変更後の設定値を取得できます.
+   *
+   * @param changedKeys 変更(追加、削除を含む)されたキーのセット
+   */
+  void onChange(Set<String> changedKeys);
+
+}
@@ -0,0 +1,74 @@
+package dev.sample.framework.core.config;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import com.typesafe.config.Config;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * <PRE>
+ * 設定のスナップショット.
+ * 読み込み済みの設定と、設定から取得した値(型変換、Beanへのバインド結果)をキー、型ごとにメモ化して保持します.
+ * 設定を変更する場合はスナップショットごと差し替えるため、メモ化した値が古い設定と混在することはありません.
+ * </PRE>
+ */
+final class ConfigSnapshot {
+
+  /** 設定. */
+  @Getter
+  private final Config config;
+
+  /** メモ化した値(値が存在しない場合は{@link Optional#empty()}). */
+  private final ConcurrentMap<ValueKey, Optional<Object>> values = new ConcurrentHashMap<>();
+
+  /**
+   * コンストラクター.
+   *
+   * @param config 設定
+   */
+  ConfigSnapshot(Config config) {
+    this.config = config;
+  }
+
+  /**
+   * 設定値を取得します.
+   * キー、型ごとに初回のみ設定から取得し、以降はメモ化した値を返却します.
+   *
+   * @param <T> 設定値の型
+   * @param key キー
+   * @param type 設定値の型(リストの場合は要素の型)
+   * @param list リストの場合はtrue
+   * @param getter 設定値の取得処理(キーが存在する場合のみ呼び出します)
+   * @return 設定値、キーが存在しない場合は{@link Optional#empty()}
+   */
+  @SuppressWarnings("unchecked")
+  <T> Optional<T> get(String key, Class<?> type, boolean list, Function<Config, T> getter) {
+    ValueKey valueKey = new ValueKey(key, type, list);
+    // 取得済みの場合はロックせずに返却
+    Optional<Object> value = values.get(valueKey);
+    if (value == null) {
+      value = values.computeIfAbsent(valueKey, k -> config.hasPath(key) ? Optional.ofNullable(getter.apply(config)) : Optional.empty());
+    }
+    return (Optional<T>) value;
+  }
+
+  /**
+   * メモ化した値のキー.
+   */
+  @Value
+  private static class ValueKey {
+
+    /** キー. */
+    private final String key;
+
+    /** 設定値の型(リストの場合は要素の型). */
+    private final Class<?> type;
+
+    /** リストの場合はtrue. */
+    private final boolean list;
+
+  }
+}
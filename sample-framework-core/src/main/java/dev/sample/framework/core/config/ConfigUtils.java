@@ -1,19 +1,58 @@
 package dev.sample.framework.core.config;
 
 import dev.sample.common.constant.Profile;
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.logger.LoggerLevels;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
+import dev.sample.framework.core.metrics.Counter;
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import dev.sample.framework.core.util.BeanUtilsExt;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import com.typesafe.config.Config;
 import com.typesafe.config.ConfigBeanFactory;
+import com.typesafe.config.ConfigException;
 import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigValue;
+import com.typesafe.config.ConfigValueType;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
 /**
+ * <PRE>
  * 設定 ユーティリティー.
+ * 設定値はキー、型ごとに初回のみ設定から取得し、以降はメモ化した値を返却します.
+ * Java Beanはメモ化したBeanのコピーを返却するため、呼び出し元で変更しても他の呼び出し元には影響しません.
+ *
+ * システムプロパティ {@code framework.config.snapshot} にスナップショットファイル({@link #writeSnapshot(Path)}で出力したもの)を指定した場合、
+ * 起動時は設定ファイルを解析せずにスナップショットファイルから読み込みます(システムプロパティはスナップショットより優先します).
+ *
+ * {@code framework.config.watch.enabled = true} の場合、設定ファイル(ファイルシステム上のもの)の変更を監視し、
+ * 変更後の設定を読み込み直します. 読み込み、検証に成功した場合のみ設定を差し替え、{@link ConfigChangeListener}に通知します.
+ * </PRE>
  */
 @UtilityClass
 @Slf4j
@@ -25,14 +64,68 @@ public class ConfigUtils {
   /** プロファイル別ファイル名. */
   private static final String PROFILE_FILE_NAME = "application-" + REPLACE_PROFILE_STR + ".conf";
 
+  /** 共通設定ファイル名. */
+  private static final String COMMON_FILE_NAME = "application.conf";
+
+  /** 共通設定ファイルの基底名(拡張子なし). */
+  private static final String COMMON_BASE_NAME = "application";
+
+  /** システムプロパティ：スナップショットファイル. */
+  private static final String PROPERTY_SNAPSHOT = "framework.config.snapshot";
+
   /** キー情報：有効なプロファイル. */
   private static final String KEY_ACTIVE_PROFILE = "active.profile";
 
+  /** キー情報：設定ファイルの監視有無. */
+  private static final String KEY_WATCH_ENABLED = "framework.config.watch.enabled";
+
+  /** キー情報：設定ファイル変更後の再読み込みまでの待機時間(ミリ秒). */
+  private static final String KEY_WATCH_DEBOUNCE = "framework.config.watch.debounce";
+
+  /** 設定ファイル変更後の再読み込みまでの待機時間(ミリ秒)(デフォルト). */
+  private static final int DEFAULT_WATCH_DEBOUNCE = 500;
+
+  /** キー情報：読み込みキャッシュの設定. */
+  private static final String KEY_ENTITY_CACHE = "framework.dao.entityCache";
+
   /** キーが存在しない場合のint型デフォルト値. */
   private static final int UNDEFINED = -1;
 
-  /** 設定ファイル. */
-  private static Config config;
+  /** 再読み込み時に検証するフレームワークの設定値の型(Key:キー、Value:型). */
+  private static final Map<String, ConfigValueType> FRAMEWORK_KEY_TYPES = new LinkedHashMap<>();
+
+  /** 再読み込み時に削除できないフレームワークの必須キー(再読み込み前の設定に存在する場合のみ検証). */
+  private static final Set<String> FRAMEWORK_REQUIRED_KEYS = new HashSet<>(Arrays.asList(
+      KEY_ACTIVE_PROFILE, "framework.formatter.date", "framework.formatter.dateTime"));
+
+  static {
+    FRAMEWORK_KEY_TYPES.put(KEY_ACTIVE_PROFILE, ConfigValueType.STRING);
+    FRAMEWORK_KEY_TYPES.put(KEY_WATCH_ENABLED, ConfigValueType.BOOLEAN);
+    FRAMEWORK_KEY_TYPES.put(KEY_WATCH_DEBOUNCE, ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.formatter.date", ConfigValueType.STRING);
+    FRAMEWORK_KEY_TYPES.put("framework.formatter.dateTime", ConfigValueType.STRING);
+    FRAMEWORK_KEY_TYPES.put("framework.dao.batchSize", ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.dao.inClauseLimit", ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.systemDate.use", ConfigValueType.BOOLEAN);
+    FRAMEWORK_KEY_TYPES.put("framework.systemDate.deemedDate", ConfigValueType.STRING);
+    FRAMEWORK_KEY_TYPES.put("framework.systemDate.refreshInterval", ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.systemDate.maxStaleness", ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.usageStatistics.summaryInterval", ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.file.upload.limitSize", ConfigValueType.NUMBER);
+    FRAMEWORK_KEY_TYPES.put("framework.logging.levels", ConfigValueType.LIST);
+  }
+
+  /** 設定のスナップショット. 設定を変更する場合はスナップショットごと差し替えます. */
+  private static volatile ConfigSnapshot snapshot;
+
+  /** 設定値の取得回数. */
+  private static final Counter LOOKUPS = MetricsRegistry.counter("framework_config_lookups_total", "Config lookups.");
+
+  /** 設定の再読み込み回数. */
+  private static final Counter RELOADS = MetricsRegistry.counter("framework_config_reloads_total", "Config reloads.");
+
+  /** 設定変更リスナー. */
+  private static final List<ConfigChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
 
   static {
     init();
@@ -42,10 +135,265 @@ public class ConfigUtils {
    * 初期化.
    */
   private static void init() {
-    config = ConfigFactory.load();
-    Config envConfig = ConfigFactory.load(PROFILE_FILE_NAME.replace(REPLACE_PROFILE_STR, getActiveProfile()));
-    config = envConfig.withFallback(config);
-    dump();
+    Config config = loadSnapshot();
+    snapshot = new ConfigSnapshot(config != null ? config : load());
+    if (log.isDebugEnabled()) {
+      dump();
+    }
+    if (getAsBoolean(KEY_WATCH_ENABLED)) {
+      watch();
+    }
+    LoggerLevels.apply();
+  }
+
+  /**
+   * 設定ファイルを読み込みます.
+   * システムプロパティ、プロファイル別設定ファイル、共通設定ファイル、reference.confの順に優先して1つの設定に結合し、1回だけ解決します.
+   *
+   * @return 設定
+   */
+  private static Config load() {
+    Config overrides = ConfigFactory.defaultOverrides();
+    Config application = ConfigFactory.parseResourcesAnySyntax(COMMON_BASE_NAME);
+    Config base = overrides.withFallback(application);
+    String activeProfile = base.hasPath(KEY_ACTIVE_PROFILE) ? base.getString(KEY_ACTIVE_PROFILE) : null;
+
+    return overrides
+        .withFallback(ConfigFactory.parseResources(getProfileFileName(activeProfile)))
+        .withFallback(application)
+        .withFallback(ConfigFactory.defaultReference())
+        .resolve();
+  }
+
+  /**
+   * スナップショットファイルから設定を読み込みます.
+   * システムプロパティはスナップショットより優先します.
+   *
+   * @return 設定、スナップショットファイルが指定されていない場合、または読み込みに失敗した場合はnull
+   */
+  private static Config loadSnapshot() {
+    String file = System.getProperty(PROPERTY_SNAPSHOT);
+    if (StringUtils.isEmpty(file)) {
+      return null;
+    }
+
+    try {
+      Config config = ConfigFactory.defaultOverrides().withFallback(readSnapshot(Paths.get(file))).resolve();
+      log.info("{}", LazyMessage.of(CoreMessageId.F0002I, file));
+      return config;
+
+    } catch (IOException | ClassNotFoundException | ClassCastException | ConfigException e) {
+      log.warn("{}", LazyMessage.of(CoreMessageId.F0003W, file), e);
+      return null;
+
+    }
+  }
+
+  /**
+   * スナップショットファイルを読み込みます.
+   *
+   * @param file スナップショットファイル
+   * @return 設定
+   * @throws IOException 読み込みに失敗した場合
+   * @throws ClassNotFoundException スナップショットファイルが不正な場合
+   */
+  static Config readSnapshot(Path file) throws IOException, ClassNotFoundException {
+    try (InputStream is = Files.newInputStream(file); ObjectInputStream ois = new ObjectInputStream(is)) {
+      return (Config) ois.readObject();
+    }
+  }
+
+  /**
+   * 現在の設定(解決済み)をスナップショットファイルに出力します.
+   * ビルド時などに出力したスナップショットファイルをシステムプロパティ {@code framework.config.snapshot} に指定すると、
+   * 起動時の設定ファイルの解析を省略できます.
+   * ※環境変数による置換は出力時に解決されます
+   *
+   * @param file スナップショットファイル
+   */
+  public static void writeSnapshot(Path file) {
+    try (OutputStream os = Files.newOutputStream(file); ObjectOutputStream oos = new ObjectOutputStream(os)) {
+      oos.writeObject(snapshot.getConfig());
+      log.info("{}", LazyMessage.of(CoreMessageId.F0023I, file));
+
+    } catch (IOException e) {
+      throw new SystemException(e);
+
+    }
+  }
+
+  /**
+   * プロファイル別ファイル名を取得します.
+   *
+   * @param activeProfile 有効なプロファイル
+   * @return プロファイル別ファイル名
+   */
+  private static String getProfileFileName(String activeProfile) {
+    return PROFILE_FILE_NAME.replace(REPLACE_PROFILE_STR, StringUtils.isEmpty(activeProfile) ? Profile.UT : activeProfile);
+  }
+
+  /**
+   * 設定ファイルを読み込み直します.
+   * 読み込み、または検証({@link #validate(Config, Config)})に失敗した場合は現在の設定を継続して使用します.
+   * 設定値が変更された場合は設定を差し替え、{@link ConfigChangeListener}に通知します.
+   *
+   * @return 設定値が変更された場合はtrue
+   */
+  public static synchronized boolean reload() {
+    Config config;
+    try {
+      // 読み込み済みの設定ファイルはTypesafe Configにキャッシュされているため破棄
+      ConfigFactory.invalidateCaches();
+      config = load();
+      validate(snapshot.getConfig(), config);
+
+    } catch (ConfigException e) {
+      log.warn("{}", LazyMessage.of(CoreMessageId.F0021W), e);
+      return false;
+
+    }
+
+    Set<String> changedKeys = getChangedKeys(snapshot.getConfig(), config);
+    if (changedKeys.isEmpty()) {
+      return false;
+    }
+    snapshot = new ConfigSnapshot(config);
+    RELOADS.increment();
+    log.info("{}", LazyMessage.of(CoreMessageId.F0020I, changedKeys));
+
+    Set<String> unmodifiableKeys = Collections.unmodifiableSet(changedKeys);
+    for (ConfigChangeListener listener : LISTENERS) {
+      try {
+        listener.onChange(unmodifiableKeys);
+      } catch (RuntimeException e) {
+        log.warn(e.getMessage(), e);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 再読み込みした設定のうち、フレームワークの設定値を検証します.
+   * 設定値が存在する場合は型を検証し、必須キーは再読み込み前の設定に存在する場合に削除されていないことを検証します.
+   *
+   * @param current 現在の設定
+   * @param config 再読み込みした設定
+   * @throws ConfigException 検証に失敗した場合
+   */
+  private static void validate(Config current, Config config) {
+    for (Map.Entry<String, ConfigValueType> entry : FRAMEWORK_KEY_TYPES.entrySet()) {
+      String key = entry.getKey();
+      if (!config.hasPath(key)) {
+        if (FRAMEWORK_REQUIRED_KEYS.contains(key) && current.hasPath(key)) {
+          throw new ConfigException.Missing(key);
+        }
+        continue;
+      }
+
+      // 型が一致しない(変換できない)場合はConfigException.WrongTypeが送出される
+      switch (entry.getValue()) {
+        case BOOLEAN:
+          config.getBoolean(key);
+          break;
+        case NUMBER:
+          config.getInt(key);
+          break;
+        case LIST:
+          config.getStringList(key);
+          break;
+        default:
+          config.getString(key);
+          break;
+      }
+    }
+
+    // 読み込みキャッシュのサイズ(framework.dao.entityCache.<Entity名>.<設定名>)は全て数値
+    if (config.hasPath(KEY_ENTITY_CACHE)) {
+      Config entityCache = config.getConfig(KEY_ENTITY_CACHE);
+      entityCache.entrySet().forEach(entry -> entityCache.getLong(entry.getKey()));
+    }
+  }
+
+  /**
+   * 設定変更リスナーを登録します.
+   *
+   * @param listener 設定変更リスナー
+   */
+  public static void addListener(ConfigChangeListener listener) {
+    LISTENERS.add(listener);
+  }
+
+  /**
+   * 設定変更リスナーを削除します.
+   *
+   * @param listener 設定変更リスナー
+   */
+  public static void removeListener(ConfigChangeListener listener) {
+    LISTENERS.remove(listener);
+  }
+
+  /**
+   * 変更(追加、削除を含む)されたキーを取得します.
+   *
+   * @param oldConfig 変更前の設定
+   * @param newConfig 変更後の設定
+   * @return 変更されたキーのセット
+   */
+  private static Set<String> getChangedKeys(Config oldConfig, Config newConfig) {
+    Map<String, Object> oldValues = unwrap(oldConfig);
+    Map<String, Object> newValues = unwrap(newConfig);
+    Set<String> changedKeys = new TreeSet<>();
+    for (Map.Entry<String, Object> entry : newValues.entrySet()) {
+      if (!Objects.equals(entry.getValue(), oldValues.get(entry.getKey()))) {
+        changedKeys.add(entry.getKey());
+      }
+    }
+    for (String key : oldValues.keySet()) {
+      if (!newValues.containsKey(key)) {
+        changedKeys.add(key);
+      }
+    }
+    return changedKeys;
+  }
+
+  /**
+   * 設定をキーと値のMapに変換します.
+   *
+   * @param config 設定
+   * @return キーと値のMap
+   */
+  private static Map<String, Object> unwrap(Config config) {
+    return config.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().unwrapped()));
+  }
+
+  /**
+   * 設定ファイルの監視を開始します.
+   * クラスパス上の設定ファイルのうち、ファイルシステム上に存在するものを監視します.
+   */
+  private static void watch() {
+    List<Path> files = new ArrayList<>();
+    Set<String> fileNames = new HashSet<>();
+    fileNames.add(COMMON_FILE_NAME);
+    fileNames.add(getProfileFileName(getActiveProfile()));
+    try {
+      for (String fileName : fileNames) {
+        Enumeration<URL> resources = ConfigUtils.class.getClassLoader().getResources(fileName);
+        while (resources.hasMoreElements()) {
+          URL resource = resources.nextElement();
+          if ("file".equals(resource.getProtocol())) {
+            files.add(Paths.get(resource.toURI()));
+          }
+        }
+      }
+      if (!files.isEmpty()) {
+        int debounce = getAsInt(KEY_WATCH_DEBOUNCE);
+        ConfigWatcher.start(files, debounce >= 0 ? debounce : DEFAULT_WATCH_DEBOUNCE, ConfigUtils::reload);
+      }
+
+    } catch (IOException | URISyntaxException e) {
+      log.warn(e.getMessage(), e);
+
+    }
   }
 
   /**
@@ -55,7 +403,8 @@ public class ConfigUtils {
    * @return 設定値、キーが存在しない場合はfalse
    */
   public static boolean getAsBoolean(String key) {
-    return config.hasPath(key) && config.getBoolean(key);
+    LOOKUPS.increment();
+    return snapshot.<Boolean>get(key, Boolean.class, false, config -> config.getBoolean(key)).orElse(Boolean.FALSE);
   }
 
   /**
@@ -65,7 +414,8 @@ public class ConfigUtils {
    * @return 設定値、キーが存在しない場合は-1
    */
   public static int getAsInt(String key) {
-    return config.hasPath(key) ? config.getInt(key) : UNDEFINED;
+    LOOKUPS.increment();
+    return snapshot.<Integer>get(key, Integer.class, false, config -> config.getInt(key)).orElse(UNDEFINED);
   }
 
   /**
@@ -75,7 +425,8 @@ public class ConfigUtils {
    * @return 設定値、キーが存在しない場合はnull
    */
   public static <T extends Enum<T>> T getAsEnum(String key, Class<T> enumClass) {
-    return config.hasPath(key) ? config.getEnum(enumClass, key) : null;
+    LOOKUPS.increment();
+    return snapshot.<T>get(key, enumClass, false, config -> config.getEnum(enumClass, key)).orElse(null);
   }
 
   /**
@@ -85,17 +436,20 @@ public class ConfigUtils {
    * @return 設定値、キーが存在しない場合はnull
    */
   public static String getAsString(String key) {
-    return config.hasPath(key) ? config.getString(key) : null;
+    LOOKUPS.increment();
+    return snapshot.<String>get(key, String.class, false, config -> config.getString(key)).orElse(null);
   }
 
   /**
    * 指定されたキーに対応した{@code List<String>}型の設定値を取得します.
    *
    * @param key キー
-   * @return 設定値、キーが存在しない場合はnull
+   * @return 設定値(変更不可)、キーが存在しない場合はnull
    */
   public static List<String> getAsStringList(String key) {
-    return config.hasPath(key) ? config.getStringList(key) : null;
+    LOOKUPS.increment();
+    return snapshot.<List<String>>get(key, String.class, true, config -> Collections.unmodifiableList(config.getStringList(key)))
+        .orElse(null);
   }
 
   /**
@@ -107,7 +461,10 @@ public class ConfigUtils {
    * @return 設定値、キーが存在しない場合はnull
    */
   public static <T extends Configurable> T getAsBean(String key, Class<T> clazz) {
-    return config.hasPath(key) ? ConfigBeanFactory.create(config.getConfig(key), clazz) : null;
+    LOOKUPS.increment();
+    return snapshot.<T>get(key, clazz, false, config -> ConfigBeanFactory.create(config.getConfig(key), clazz))
+        .map(BeanUtilsExt::deepCopy)
+        .orElse(null);
   }
 
   /**
@@ -119,9 +476,12 @@ public class ConfigUtils {
    * @return 設定値、キーが存在しない場合はnull
    */
   public static <T extends Configurable> List<T> getAsBeanList(String key, Class<T> clazz) {
-    return config.hasPath(key) ? config.getConfigList(key).stream()
-        .map(config -> ConfigBeanFactory.create(config, clazz))
-        .collect(Collectors.toList()) : null;
+    LOOKUPS.increment();
+    return snapshot.<List<T>>get(key, clazz, true, config -> config.getConfigList(key).stream()
+        .map(beanConfig -> ConfigBeanFactory.create(beanConfig, clazz))
+        .collect(Collectors.toList()))
+        .map(beans -> beans.stream().map(BeanUtilsExt::deepCopy).collect(Collectors.toList()))
+        .orElse(null);
   }
 
   /**
@@ -137,9 +497,10 @@ public class ConfigUtils {
 
   /**
    * 設定ファイルの情報をダンプします.
+   * 全てのキーをソートして出力するため、デバッグログが有効な場合のみ呼び出してください.
    */
   private static void dump() {
-    config.entrySet().stream()
+    snapshot.getConfig().entrySet().stream()
         .sorted(Map.Entry.<String, ConfigValue>comparingByKey())
         .forEach(entry -> log.debug("dump - key:{}, value:{}", entry.getKey(), entry.getValue().render()));
   }
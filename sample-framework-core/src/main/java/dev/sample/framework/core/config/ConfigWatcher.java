@@ -0,0 +1,140 @@
+package dev.sample.framework.core.config;
+
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <PRE>
+ * 設定ファイルの監視.
+ * 設定ファイルが格納されたディレクトリを{@link WatchService}で監視し、設定ファイルが変更された場合に変更時の処理を呼び出します.
+ * 短時間に連続して変更された場合は、最後の変更から待機時間が経過した後に1回だけ呼び出します.
+ * 監視、変更時の処理は専用のデーモンスレッドで行います.
+ * </PRE>
+ */
+@Slf4j
+final class ConfigWatcher {
+
+  /** 監視するファイル. */
+  private final Set<Path> files;
+
+  /** 待機時間(ミリ秒). */
+  private final long debounceMillis;
+
+  /** 変更時の処理. */
+  private final Runnable onChange;
+
+  /** 監視サービス. */
+  private final WatchService watchService;
+
+  /**
+   * コンストラクター.
+   *
+   * @param files 監視するファイル
+   * @param debounceMillis 待機時間(ミリ秒)
+   * @param onChange 変更時の処理
+   * @throws IOException 監視サービスの生成に失敗した場合
+   */
+  private ConfigWatcher(Collection<Path> files, long debounceMillis, Runnable onChange) throws IOException {
+    this.files = new HashSet<>(files);
+    this.debounceMillis = debounceMillis;
+    this.onChange = onChange;
+    this.watchService = FileSystems.getDefault().newWatchService();
+    for (Path directory : getDirectories(this.files)) {
+      directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+    }
+  }
+
+  /**
+   * 設定ファイルの監視を開始します.
+   *
+   * @param files 監視するファイル
+   * @param debounceMillis 待機時間(ミリ秒)
+   * @param onChange 変更時の処理
+   * @throws IOException 監視サービスの生成に失敗した場合
+   */
+  static void start(Collection<Path> files, long debounceMillis, Runnable onChange) throws IOException {
+    ConfigWatcher watcher = new ConfigWatcher(files, debounceMillis, onChange);
+    Thread thread = new Thread(watcher::watchLoop, "ConfigWatcher");
+    thread.setDaemon(true);
+    thread.start();
+    log.info("{}", LazyMessage.of(CoreMessageId.F0022I, files));
+  }
+
+  /**
+   * 監視するディレクトリを取得します.
+   *
+   * @param files 監視するファイル
+   * @return 監視するディレクトリ
+   */
+  private static Set<Path> getDirectories(Set<Path> files) {
+    Set<Path> directories = new HashSet<>();
+    for (Path file : files) {
+      directories.add(file.getParent());
+    }
+    return directories;
+  }
+
+  /**
+   * 設定ファイルの変更を待機し、変更時の処理を呼び出します.
+   */
+  private void watchLoop() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        if (!isTargetChanged(watchService.take())) {
+          continue;
+        }
+
+        // 待機時間内に次の変更がなくなるまで待つ
+        WatchKey key;
+        while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+          isTargetChanged(key);
+        }
+
+        try {
+          onChange.run();
+        } catch (RuntimeException e) {
+          log.warn(e.getMessage(), e);
+        }
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+    } catch (ClosedWatchServiceException e) {
+      // do nothing.
+
+    }
+  }
+
+  /**
+   * 監視対象のファイルが変更されたか判定します.
+   *
+   * @param key 監視キー
+   * @return 監視対象のファイルが変更された場合はtrue
+   */
+  private boolean isTargetChanged(WatchKey key) {
+    boolean changed = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        changed = true;
+      } else if (files.contains(((Path) key.watchable()).resolve((Path) event.context()))) {
+        changed = true;
+      }
+    }
+    key.reset();
+    return changed;
+  }
+}
@@ -1,7 +1,7 @@
 package dev.sample.framework.core.conversation;
 
 import dev.sample.framework.core.message.CoreMessageId;
-import dev.sample.framework.core.util.MessageUtils;
+import dev.sample.framework.core.message.LazyMessage;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,7 +36,7 @@ public class ConversationSharedDto implements Serializable {
    */
   @PreDestroy
   public void destroy() {
-    log.debug(MessageUtils.getMessage(CoreMessageId.F0012D, dataModelMap.toString()));
+    log.debug("{}", LazyMessage.of(CoreMessageId.F0012D, dataModelMap));
   }
 
   /**
@@ -0,0 +1,16 @@
+package dev.sample.framework.core.data.condition;
+
+/**
+ * 全件数の取得方法.
+ */
+public enum CountMode {
+  /** 検索の都度、全件数を取得. */
+  EXACT,
+  /** 全件数を取得しない. */
+  SKIP,
+  /** 全件数を取得せず、取得件数+1件を検索して次ページの有無のみ判定. */
+  HAS_NEXT,
+  /** 全件数を取得し、有効期間内は同一条件の全件数を再利用. */
+  CACHED,
+  ;
+}
@@ -1,5 +1,6 @@
 package dev.sample.framework.core.data.condition;
 
+import java.util.List;
 import lombok.Builder;
 import lombok.Data;
 
@@ -18,8 +19,41 @@ public class FilterDo {
   @Builder.Default
   private int limit = 100;
 
-  /** 全件数. */
+  /**
+   * 全件数.
+   * 全件数の取得方法が{@link CountMode#SKIP}、{@link CountMode#HAS_NEXT}の場合は-1(不明).
+   * ただし{@link CountMode#HAS_NEXT}で最終ページを検索した場合は、確定した全件数を設定します.
+   */
   @Builder.Default
   private int total = -1;
 
+  /** 全件数の取得方法. */
+  @Builder.Default
+  private CountMode countMode = CountMode.EXACT;
+
+  /** 全件数キャッシュの有効期間(秒). {@link CountMode#CACHED}の場合のみ使用します. */
+  @Builder.Default
+  private int countCacheTtl = 60;
+
+  /** 次ページ有無. {@link CountMode#HAS_NEXT}の場合のみ設定します. */
+  private boolean hasNext;
+
+  /**
+   * キーセットページング.
+   * trueの場合はoffsetを使用せず、前ページ最終行のソートキー({@link #lastKeys})以降を検索します.
+   */
+  private boolean keyset;
+
+  /**
+   * 前ページ最終行のソートキー値のリスト(キーセットページング時のみ使用).
+   * ソート順({@link SortDo})のリスト + ID の順に格納します. 未指定の場合は先頭ページを検索します.
+   */
+  private List<Object> lastKeys;
+
+  /**
+   * 検索結果最終行のソートキー値のリスト(キーセットページング時のみ設定).
+   * 次ページを検索する際の{@link #lastKeys}に使用します. 次ページが存在しない場合はnull.
+   */
+  private List<Object> nextKeys;
+
 }
@@ -0,0 +1,32 @@
+package dev.sample.framework.core.data.condition;
+
+/**
+ * 条件演算子.
+ */
+public enum Operator {
+  /** 等しい(=). */
+  EQ,
+  /** 等しくない(&lt;&gt;). */
+  NE,
+  /** より小さい(&lt;). */
+  LT,
+  /** 以下(&lt;=). */
+  LE,
+  /** より大きい(&gt;). */
+  GT,
+  /** 以上(&gt;=). */
+  GE,
+  /** 範囲(BETWEEN). */
+  BETWEEN,
+  /** いずれかに一致(IN). */
+  IN,
+  /** 前方一致(LIKE 'xxx%'). */
+  STARTS_WITH,
+  /** NULL(IS NULL). */
+  IS_NULL,
+  /** NULL以外(IS NOT NULL). */
+  IS_NOT_NULL,
+  /** いずれかの条件に該当(OR). */
+  OR,
+  ;
+}
@@ -0,0 +1,176 @@
+package dev.sample.framework.core.data.condition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 検索条件(述語)DO.
+ */
+@Builder
+@Data
+public class PredicateDo {
+
+  /** 項目名. */
+  private String field;
+
+  /** 条件演算子. */
+  @Builder.Default
+  private Operator operator = Operator.EQ;
+
+  /** 値({@link Operator#IN}の場合は値のコレクション、{@link Operator#BETWEEN}の場合は下限値). */
+  private Object value;
+
+  /** 上限値({@link Operator#BETWEEN}の場合のみ使用). */
+  private Object toValue;
+
+  /** OR条件のリスト({@link Operator#OR}の場合のみ使用). */
+  @Builder.Default
+  private List<PredicateDo> predicates = new ArrayList<>();
+
+  /**
+   * 等しい(=).
+   *
+   * @param field 項目名
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo eq(String field, Object value) {
+    return of(field, Operator.EQ, value);
+  }
+
+  /**
+   * 等しくない(&lt;&gt;).
+   *
+   * @param field 項目名
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo ne(String field, Object value) {
+    return of(field, Operator.NE, value);
+  }
+
+  /**
+   * より小さい(&lt;).
+   *
+   * @param field 項目名
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo lt(String field, Object value) {
+    return of(field, Operator.LT, value);
+  }
+
+  /**
+   * 以下(&lt;=).
+   *
+   * @param field 項目名
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo le(String field, Object value) {
+    return of(field, Operator.LE, value);
+  }
+
+  /**
+   * より大きい(&gt;).
+   *
+   * @param field 項目名
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo gt(String field, Object value) {
+    return of(field, Operator.GT, value);
+  }
+
+  /**
+   * 以上(&gt;=).
+   *
+   * @param field 項目名
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo ge(String field, Object value) {
+    return of(field, Operator.GE, value);
+  }
+
+  /**
+   * 範囲(BETWEEN).
+   *
+   * @param field 項目名
+   * @param fromValue 下限値
+   * @param toValue 上限値
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo between(String field, Object fromValue, Object toValue) {
+    return PredicateDo.builder().field(field).operator(Operator.BETWEEN).value(fromValue).toValue(toValue).build();
+  }
+
+  /**
+   * いずれかに一致(IN).
+   *
+   * @param field 項目名
+   * @param values 値のコレクション
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo in(String field, Collection<?> values) {
+    return of(field, Operator.IN, new ArrayList<>(values));
+  }
+
+  /**
+   * 前方一致(LIKE 'xxx%').
+   *
+   * @param field 項目名
+   * @param prefix 前方一致させる文字列
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo startsWith(String field, String prefix) {
+    return of(field, Operator.STARTS_WITH, prefix);
+  }
+
+  /**
+   * NULL(IS NULL).
+   *
+   * @param field 項目名
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo isNull(String field) {
+    return of(field, Operator.IS_NULL, null);
+  }
+
+  /**
+   * NULL以外(IS NOT NULL).
+   *
+   * @param field 項目名
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo isNotNull(String field) {
+    return of(field, Operator.IS_NOT_NULL, null);
+  }
+
+  /**
+   * いずれかの条件に該当(OR).
+   *
+   * @param predicates OR条件
+   * @return 検索条件(述語)DO
+   */
+  public static PredicateDo or(PredicateDo... predicates) {
+    return PredicateDo.builder().operator(Operator.OR).predicates(new ArrayList<>(Arrays.asList(predicates))).build();
+  }
+
+  /**
+   * 検索条件(述語)DOを作成します.
+   *
+   * @param field 項目名
+   * @param operator 条件演算子
+   * @param value 値
+   * @return 検索条件(述語)DO
+   */
+  private static PredicateDo of(String field, Operator operator, Object value) {
+    return PredicateDo.builder().field(field).operator(operator).value(value).build();
+  }
+
+}
@@ -26,6 +26,21 @@ public class SearchConditionDo {
   @Builder.Default
   private Map<String, Object> queryParams = new LinkedHashMap<>();
 
+  /**
+   * 検索条件(述語)のリスト.
+   * クエリパラメーターMapによる一致条件とあわせてAND条件で結合します.
+   */
+  @Builder.Default
+  private List<PredicateDo> predicates = new ArrayList<>();
+
+  /** 検索条件(述語)用クエリパラメーターMap. */
+  @Builder.Default
+  private Map<String, Object> predicateParams = new LinkedHashMap<>();
+
+  /** キーセットページング用クエリパラメーターMap. */
+  @Builder.Default
+  private Map<String, Object> keysetParams = new LinkedHashMap<>();
+
   /** 検索件数を取得するためのクエリ. */
   private String countQuery;
 
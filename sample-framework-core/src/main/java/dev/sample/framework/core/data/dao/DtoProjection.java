@@ -0,0 +1,170 @@
+package dev.sample.framework.core.data.dao;
+
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.exception.dto.ErrorMessage;
+import dev.sample.framework.core.message.CoreMessageId;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import lombok.Getter;
+import lombok.Value;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * 射影(DTO)検索の定義.
+ * DTOのプロパティのうち、Entityの基本属性(関連、埋め込みを除く)で、かつ型がDTOのsetterに代入可能なプロパティを検索対象のカラムとし、
+ * 検索結果をDTOに詰め替えます(値の型変換は行いません).
+ *
+ * @param <D> DTO
+ */
+final class DtoProjection<D> {
+
+  /** 射影定義のキャッシュ. */
+  private static final ConcurrentMap<ProjectionKey, DtoProjection<?>> CACHE = new ConcurrentHashMap<>();
+
+  /** 検索対象のプロパティ名のリスト. */
+  @Getter
+  private final List<String> fields;
+
+  /** DTOのコンストラクター. */
+  private final MethodHandle constructor;
+
+  /** DTOのsetterのリスト({@link #fields}の順). */
+  private final List<MethodHandle> setters;
+
+  /** DTOのsetterの引数がプリミティブ型の場合はtrue({@link #fields}の順). */
+  private final boolean[] primitives;
+
+  /**
+   * コンストラクター.
+   *
+   * @param metamodel {@link Metamodel} メタモデル
+   * @param entityType Entityの型
+   * @param dtoType DTOの型
+   */
+  private DtoProjection(Metamodel metamodel, Class<?> entityType, Class<D> dtoType) {
+    EntityType<?> entity = metamodel.entity(entityType);
+    List<String> projectionFields = new ArrayList<>();
+    List<MethodHandle> projectionSetters = new ArrayList<>();
+    List<Boolean> projectionPrimitives = new ArrayList<>();
+    try {
+      for (PropertyDescriptor pd : PropertyUtils.getPropertyDescriptors(dtoType)) {
+        if (pd.getWriteMethod() == null || !isProjectable(entity, pd.getName(), pd.getPropertyType())) {
+          continue;
+        }
+        projectionFields.add(pd.getName());
+        projectionSetters.add(MethodHandles.publicLookup().unreflect(pd.getWriteMethod())
+            .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        projectionPrimitives.add(pd.getPropertyType().isPrimitive());
+      }
+      this.constructor = MethodHandles.publicLookup().findConstructor(dtoType, MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Object.class));
+
+    } catch (IllegalAccessException | NoSuchMethodException e) {
+      throw new SystemException(e);
+
+    }
+
+    if (projectionFields.isEmpty()) {
+      throw new SystemException(new ErrorMessage(CoreMessageId.F0019E, dtoType.getSimpleName(), entityType.getSimpleName()));
+    }
+    this.fields = Collections.unmodifiableList(projectionFields);
+    this.setters = Collections.unmodifiableList(projectionSetters);
+    this.primitives = new boolean[projectionPrimitives.size()];
+    for (int i = 0; i < primitives.length; i++) {
+      primitives[i] = projectionPrimitives.get(i);
+    }
+  }
+
+  /**
+   * DTOのプロパティを検索対象のカラムにできるか判定します.
+   * Entityの基本属性で、かつ属性の型がDTOのプロパティの型に代入可能な場合のみ対象とします.
+   * 関連(結合が発生し、外部キーがnullの行が除外されるため)、コレクション、埋め込みの属性は対象外です.
+   *
+   * @param entity Entityのメタモデル
+   * @param name プロパティ名
+   * @param propertyType DTOのプロパティの型
+   * @return 検索対象のカラムにできる場合はtrue
+   */
+  private static boolean isProjectable(EntityType<?> entity, String name, Class<?> propertyType) {
+    Attribute<?, ?> attribute;
+    try {
+      attribute = entity.getAttribute(name);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    return PersistentAttributeType.BASIC == attribute.getPersistentAttributeType()
+        && ClassUtils.primitiveToWrapper(propertyType).isAssignableFrom(ClassUtils.primitiveToWrapper(attribute.getJavaType()));
+  }
+
+  /**
+   * 射影定義を取得します.
+   * Entity、DTOの組み合わせごとに初回のみ解析し、以降はキャッシュを返却します.
+   *
+   * @param <D> DTO
+   * @param metamodel {@link Metamodel} メタモデル
+   * @param entityType Entityの型
+   * @param dtoType DTOの型
+   * @return 射影定義
+   */
+  @SuppressWarnings("unchecked")
+  static <D> DtoProjection<D> of(Metamodel metamodel, Class<?> entityType, Class<D> dtoType) {
+    return (DtoProjection<D>) CACHE.computeIfAbsent(new ProjectionKey(entityType, dtoType),
+        key -> new DtoProjection<>(metamodel, entityType, dtoType));
+  }
+
+  /**
+   * 検索結果の行をDTOに変換します.
+   * 検索対象のカラムが1つの場合、行はカラムの値そのものとなります.
+   * プリミティブ型のプロパティの値がnullの場合は設定しません(デフォルト値のまま).
+   *
+   * @param row 検索結果の行
+   * @return DTO
+   */
+  @SuppressWarnings("unchecked")
+  D toDto(Object row) {
+    Object[] values = fields.size() == 1 ? new Object[] {row} : (Object[]) row;
+    try {
+      Object dto = constructor.invokeExact();
+      for (int i = 0; i < setters.size(); i++) {
+        if (values[i] == null && primitives[i]) {
+          continue;
+        }
+        setters.get(i).invokeExact(dto, values[i]);
+      }
+      return (D) dto;
+
+    } catch (RuntimeException e) {
+      throw e;
+
+    } catch (Throwable e) {
+      throw new SystemException(e);
+
+    }
+  }
+
+  /**
+   * 射影定義のキャッシュのキー.
+   */
+  @Value
+  private static class ProjectionKey {
+
+    /** Entityの型. */
+    private final Class<?> entityType;
+
+    /** DTOの型. */
+    private final Class<?> dtoType;
+
+  }
+}
@@ -0,0 +1,322 @@
+package dev.sample.framework.core.data.dao;
+
+import dev.sample.framework.core.config.ConfigUtils;
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.exception.dto.ErrorMessage;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Entityの読み込みキャッシュ.
+ * {@link ReadThroughCache}が付与されたDao、またはEntityごとに1つのキャッシュを保持します.
+ * キャッシュには永続性コンテキストの管理対象外のEntityのコピーを保持し、呼び出し元にはさらにそのコピーを返却します.
+ * キーはPrimary Key、またはPrimary Key以外の条件の場合は{@link QueryKey}とし、キーの空間を分けます.
+ * 更新時はキャッシュを破棄し、JTAのトランザクション中の場合はトランザクションの完了後にも破棄します.
+ * 最大保持件数、有効期間は設定ファイル({@code framework.dao.entityCache.<Entity名>.maximumSize}、
+ * {@code framework.dao.entityCache.<Entity名>.expireAfterWriteSeconds})で{@link ReadThroughCache}の定義を上書きできます.
+ * 設定ファイルの再読み込みで変更された場合は、キャッシュを作り直します(保持していたEntityは破棄します).
+ */
+public final class EntityCache {
+
+  /** JNDI名：TransactionSynchronizationRegistry. */
+  private static final String JNDI_TX_SYNC_REGISTRY = "java:comp/TransactionSynchronizationRegistry";
+
+  /** TransactionSynchronizationRegistry(JTAを使用できない場合はempty、未取得の場合はnull). */
+  private static volatile Optional<TransactionSynchronizationRegistry> txSyncRegistry;
+
+  /** Entityごとのキャッシュ. */
+  private static final ConcurrentMap<Class<?>, EntityCache> CACHES = new ConcurrentHashMap<>();
+
+  /** Daoごとのキャッシュ(キャッシュ対象外の場合はempty). */
+  private static final ConcurrentMap<Class<?>, Optional<EntityCache>> DAO_CACHES = new ConcurrentHashMap<>();
+
+  /** キー情報：キャッシュの設定の接頭辞. */
+  private static final String KEY_PREFIX = "framework.dao.entityCache.";
+  /** キー情報：最大保持件数(Entity名以降). */
+  private static final String KEY_MAXIMUM_SIZE = ".maximumSize";
+  /** キー情報：有効期間(秒)(Entity名以降). */
+  private static final String KEY_EXPIRE_AFTER_WRITE_SECONDS = ".expireAfterWriteSeconds";
+
+  static {
+    // 設定ファイルの再読み込み時は、最大保持件数、有効期間が変更されたキャッシュを作り直す
+    ConfigUtils.addListener(changedKeys -> {
+      if (changedKeys.stream().anyMatch(key -> key.startsWith(KEY_PREFIX))) {
+        CACHES.values().forEach(EntityCache::rebuild);
+      }
+    });
+  }
+
+  /** Entity名. */
+  private final String entityName;
+
+  /** 読み込みキャッシュの定義. */
+  private final ReadThroughCache spec;
+
+  /** キャッシュ(作り直す場合は差し替えます). */
+  private volatile Cache<Object, Object> cache;
+
+  /** 現在のキャッシュの最大保持件数. */
+  private long maximumSize;
+
+  /** 現在のキャッシュの有効期間(秒). */
+  private long expireAfterWriteSeconds;
+
+  /** 作り直す前のキャッシュの統計情報の累計. */
+  private CacheStats retiredStats = new CacheStats(0, 0, 0, 0, 0, 0);
+
+  /**
+   * コンストラクター.
+   *
+   * @param entityName Entity名
+   * @param spec {@link ReadThroughCache} 読み込みキャッシュの定義
+   */
+  private EntityCache(String entityName, ReadThroughCache spec) {
+    this.entityName = entityName;
+    this.spec = spec;
+    this.maximumSize = getSetting(KEY_MAXIMUM_SIZE, spec.maximumSize());
+    this.expireAfterWriteSeconds = getSetting(KEY_EXPIRE_AFTER_WRITE_SECONDS, spec.expireAfterWriteSeconds());
+    this.cache = build(maximumSize, expireAfterWriteSeconds);
+  }
+
+  /**
+   * キャッシュを生成します.
+   *
+   * @param maximumSize 最大保持件数
+   * @param expireAfterWriteSeconds 有効期間(秒)
+   * @return キャッシュ
+   */
+  private static Cache<Object, Object> build(long maximumSize, long expireAfterWriteSeconds) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * 設定ファイルの値を取得します.
+   *
+   * @param key キー(Entity名以降)
+   * @param defaultValue 設定ファイルに存在しない場合の値({@link ReadThroughCache}の定義)
+   * @return 設定値
+   */
+  private long getSetting(String key, long defaultValue) {
+    int value = ConfigUtils.getAsInt(KEY_PREFIX + entityName + key);
+    return value >= 0 ? value : defaultValue;
+  }
+
+  /**
+   * 最大保持件数、有効期間が変更された場合はキャッシュを作り直します.
+   * 統計情報は作り直す前の値を累計します.
+   */
+  private synchronized void rebuild() {
+    long newMaximumSize = getSetting(KEY_MAXIMUM_SIZE, spec.maximumSize());
+    long newExpireAfterWriteSeconds = getSetting(KEY_EXPIRE_AFTER_WRITE_SECONDS, spec.expireAfterWriteSeconds());
+    if (newMaximumSize == maximumSize && newExpireAfterWriteSeconds == expireAfterWriteSeconds) {
+      return;
+    }
+
+    Cache<Object, Object> retired = cache;
+    maximumSize = newMaximumSize;
+    expireAfterWriteSeconds = newExpireAfterWriteSeconds;
+    cache = build(maximumSize, expireAfterWriteSeconds);
+    retiredStats = retiredStats.plus(retired.stats());
+  }
+
+  /**
+   * 統計情報を取得します.
+   *
+   * @return 統計情報(作り直す前のキャッシュを含む累計)
+   */
+  private synchronized CacheStats stats() {
+    return retiredStats.plus(cache.stats());
+  }
+
+  /**
+   * キャッシュを生成し、統計情報をメトリクスに登録します.
+   *
+   * @param entityType Entityの型
+   * @param spec {@link ReadThroughCache} 読み込みキャッシュの定義
+   * @return {@link EntityCache} キャッシュ
+   */
+  private static EntityCache create(Class<?> entityType, ReadThroughCache spec) {
+    String entity = entityType.getSimpleName();
+    EntityCache entityCache = new EntityCache(entity, spec);
+    MetricsRegistry.functionCounter("framework_entity_cache_hits_total", "Entity cache hits.", () -> entityCache.stats().hitCount(),
+        "entity", entity);
+    MetricsRegistry.functionCounter("framework_entity_cache_misses_total", "Entity cache misses.",
+        () -> entityCache.stats().missCount(), "entity", entity);
+    MetricsRegistry.functionCounter("framework_entity_cache_evictions_total", "Entity cache evictions.",
+        () -> entityCache.stats().evictionCount(), "entity", entity);
+    return entityCache;
+  }
+
+  /**
+   * Daoに対応するキャッシュを取得します.
+   * Dao、Entityの順に{@link ReadThroughCache}を検索し、いずれにも付与されていない場合はnullを返却します.
+   * キャッシュにはEntityのコピーを保持するため、Entityが{@link Serializable}を実装していない場合は{@link SystemException}を送出します.
+   *
+   * @param daoType Daoの型
+   * @param entityType Entityの型
+   * @return {@link EntityCache} キャッシュ、キャッシュ対象外の場合はnull
+   */
+  static EntityCache of(@NonNull Class<?> daoType, @NonNull Class<?> entityType) {
+    return DAO_CACHES.computeIfAbsent(daoType, key -> {
+      ReadThroughCache spec = daoType.getAnnotation(ReadThroughCache.class);
+      if (spec == null) {
+        spec = entityType.getAnnotation(ReadThroughCache.class);
+      }
+      if (spec != null && !Serializable.class.isAssignableFrom(entityType)) {
+        throw new SystemException(null, new ErrorMessage(CoreMessageId.F0024E, entityType.getName()));
+      }
+      ReadThroughCache resolved = spec;
+      return Optional.ofNullable(resolved).map(s -> CACHES.computeIfAbsent(entityType, type -> create(type, s)));
+    }).orElse(null);
+  }
+
+  /**
+   * キャッシュからEntityを取得します.
+   * キャッシュが存在しない場合は取得処理を実行し、結果をキャッシュします(nullはキャッシュしません).
+   *
+   * @param <E> Entity
+   * @param key キー
+   * @param loader 取得処理
+   * @return Entity
+   */
+  @SuppressWarnings("unchecked")
+  <E> E get(Object key, Supplier<E> loader) {
+    Object cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return (E) cached;
+    }
+
+    E entity = loader.get();
+    if (entity != null) {
+      cache.put(key, entity);
+    }
+    return entity;
+  }
+
+  /**
+   * キャッシュを全て破棄します.
+   */
+  void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * 更新に伴いキャッシュを破棄します.
+   * トランザクション中の場合は、トランザクションの完了(コミット、ロールバック)後にも破棄します.
+   * 完了前に他のトランザクションが読み込んだ更新前のEntityがキャッシュに残らないようにするためです.
+   * また、完了までは同一トランザクションでのキャッシュの使用を抑止します({@link #isWriting(TransactionSynchronizationRegistry)}).
+   *
+   * @param registry {@link TransactionSynchronizationRegistry}(JTAを使用できない場合はnull)
+   */
+  void invalidateOnCompletion(TransactionSynchronizationRegistry registry) {
+    invalidateAll();
+    if (registry == null || registry.getTransactionStatus() != Status.STATUS_ACTIVE || registry.getResource(this) != null) {
+      return;
+    }
+
+    registry.putResource(this, Boolean.TRUE);
+    registry.registerInterposedSynchronization(new Synchronization() {
+      @Override
+      public void beforeCompletion() {
+        // do nothing
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        invalidateAll();
+      }
+    });
+  }
+
+  /**
+   * 現在のトランザクションで、完了前の更新があるか判定します.
+   *
+   * @param registry {@link TransactionSynchronizationRegistry}(JTAを使用できない場合はnull)
+   * @return 完了前の更新がある場合はtrue
+   */
+  boolean isWriting(TransactionSynchronizationRegistry registry) {
+    return registry != null && registry.getTransactionStatus() != Status.STATUS_NO_TRANSACTION && registry.getResource(this) != null;
+  }
+
+  /**
+   * JNDIから{@link TransactionSynchronizationRegistry}を取得します.
+   * 初回のみ検索し、以降は検索結果を返却します.
+   *
+   * @return {@link TransactionSynchronizationRegistry}、JTAを使用できない場合はnull
+   */
+  static TransactionSynchronizationRegistry lookupTransactionSynchronizationRegistry() {
+    Optional<TransactionSynchronizationRegistry> registry = txSyncRegistry;
+    if (registry == null) {
+      try {
+        registry = Optional.of((TransactionSynchronizationRegistry) new InitialContext().lookup(JNDI_TX_SYNC_REGISTRY));
+      } catch (NamingException e) {
+        registry = Optional.empty();
+      }
+      txSyncRegistry = registry;
+    }
+    return registry.orElse(null);
+  }
+
+  /**
+   * 全てのEntityのキャッシュを破棄します.
+   */
+  public static void invalidateAllEntities() {
+    CACHES.values().forEach(EntityCache::invalidateAll);
+  }
+
+  /**
+   * Entityのキャッシュを破棄します.
+   *
+   * @param entityType Entityの型
+   */
+  public static void invalidate(@NonNull Class<?> entityType) {
+    EntityCache entityCache = CACHES.get(entityType);
+    if (entityCache != null) {
+      entityCache.invalidateAll();
+    }
+  }
+
+  /**
+   * キャッシュの統計情報(ヒット数、ミス数、破棄数など)を取得します.
+   *
+   * @return キャッシュの統計情報(Key:Entity名、Value:{@link CacheStats})
+   */
+  public static Map<String, CacheStats> getStats() {
+    Map<String, CacheStats> stats = new TreeMap<>();
+    CACHES.forEach((entityType, entityCache) -> stats.put(entityType.getSimpleName(), entityCache.stats()));
+    return stats;
+  }
+
+  /**
+   * Primary Key以外の条件で取得したEntityのキャッシュのキー.
+   */
+  @Value
+  static class QueryKey {
+
+    /** クエリ名. */
+    private final String queryName;
+
+  }
+}
@@ -1,16 +1,40 @@
 package dev.sample.framework.core.data.dao;
 
+import dev.sample.framework.core.code.LoggerVo;
+import dev.sample.framework.core.config.ConfigUtils;
+import dev.sample.framework.core.data.condition.CountMode;
+import dev.sample.framework.core.data.condition.FilterDo;
 import dev.sample.framework.core.data.condition.SearchConditionDo;
+import dev.sample.framework.core.data.condition.SortDo;
+import dev.sample.framework.core.data.entity.EntityMetadata;
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import dev.sample.framework.core.util.BeanUtilsExt;
 import dev.sample.framework.core.util.QueryBuilder;
 import dev.sample.framework.core.util.ReflectionUtils;
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import javax.persistence.EmbeddedId;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.persistence.Cache;
 import javax.persistence.EntityManager;
-import javax.persistence.GeneratedValue;
-import javax.persistence.Id;
 import javax.persistence.Query;
+import javax.transaction.TransactionSynchronizationRegistry;
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * mydb汎用Dao.
@@ -20,6 +44,32 @@ import javax.persistence.Query;
  */
 public abstract class GenericDao<E, PK extends Serializable> {
 
+  /** 全件数が不明な場合の値. */
+  private static final int UNKNOWN_TOTAL = -1;
+
+  /** キー情報：一括更新時のバッチサイズ. */
+  private static final String KEY_BATCH_SIZE = "framework.dao.batchSize";
+  /** 一括更新時のバッチサイズ(デフォルト). */
+  private static final int DEFAULT_BATCH_SIZE = 100;
+
+  /** キー情報：IN句の最大要素数. */
+  private static final String KEY_IN_CLAUSE_LIMIT = "framework.dao.inClauseLimit";
+  /** IN句の最大要素数(デフォルト). */
+  private static final int DEFAULT_IN_CLAUSE_LIMIT = 1000;
+
+  /** メトリクス名：検索処理時間. */
+  private static final String METRIC_SEARCH = "framework_dao_search_seconds";
+  /** メトリクス名：件数取得処理時間. */
+  private static final String METRIC_COUNT = "framework_dao_count_seconds";
+
+  /** Performance Logger. */
+  private static final Logger PERFORMANCE_LOGGER = LoggerFactory.getLogger(LoggerVo.PERFORMANCE_LOGGER.getCode());
+
+  /** クエリヒント：JDBCフェッチサイズ(EclipseLink). */
+  private static final String HINT_FETCH_SIZE_ECLIPSELINK = "eclipselink.jdbc.fetch-size";
+  /** クエリヒント：JDBCフェッチサイズ(Hibernate). */
+  private static final String HINT_FETCH_SIZE_HIBERNATE = "org.hibernate.fetchSize";
+
   /**
    * EntityManagerを取得します.
    *
@@ -27,14 +77,65 @@ public abstract class GenericDao<E, PK extends Serializable> {
    */
   public abstract EntityManager getEntityManager();
 
+  /**
+   * 読み込みキャッシュの破棄をトランザクションの完了に同期するための{@link TransactionSynchronizationRegistry}を取得します.
+   * デフォルトはJNDI({@code java:comp/TransactionSynchronizationRegistry})から取得します.
+   *
+   * @return {@link TransactionSynchronizationRegistry}、JTAを使用できない場合はnull
+   */
+  protected TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+    return EntityCache.lookupTransactionSynchronizationRegistry();
+  }
+
   /**
    * Select.
+   * 読み込みキャッシュの対象({@link ReadThroughCache})の場合は、キャッシュしたEntityのコピーを返却します(永続性コンテキストの管理対象外).
    *
    * @param primaryKey Primary Key
    * @return entity instance. 存在しない場合はnull
    */
   public E find(PK primaryKey) {
-    return getEntityManager().find(getEntityType(), primaryKey);
+    return findCached(primaryKey, entityManager -> entityManager.find(getEntityType(), primaryKey));
+  }
+
+  /**
+   * 複数のPrimary Keyで一括検索します.
+   * 重複したPrimary Keyは1回のみ検索し、共有キャッシュに存在するEntityはキャッシュから取得します.
+   * 残りはIN句の最大要素数({@code framework.dao.inClauseLimit})単位に分割したINクエリで検索します.
+   * 複合PK({@link javax.persistence.EmbeddedId})の場合は、Primary Keyごとに検索します.
+   * 読み込みキャッシュ({@link ReadThroughCache})は使用せず、常に永続性コンテキストの管理対象のEntityを返却します.
+   *
+   * @param primaryKeys Primary Keyのコレクション
+   * @return 検索結果(Key:Primary Key、Value:Entity). 存在しないPrimary Keyは含みません
+   */
+  public Map<PK, E> findAll(Collection<PK> primaryKeys) {
+    Map<PK, E> results = new LinkedHashMap<>();
+    EntityMetadata metadata = EntityMetadata.of(getEntityType());
+    Cache sharedCache = getEntityManager().getEntityManagerFactory().getCache();
+
+    List<PK> remainingKeys = new ArrayList<>();
+    for (PK primaryKey : new LinkedHashSet<>(primaryKeys)) {
+      if (metadata.isEmbeddedId() || sharedCache.contains(getEntityType(), primaryKey)) {
+        E entity = getEntityManager().find(getEntityType(), primaryKey);
+        if (entity != null) {
+          results.put(primaryKey, entity);
+        }
+      } else {
+        remainingKeys.add(primaryKey);
+      }
+    }
+
+    if (!remainingKeys.isEmpty()) {
+      String findAllQuery = QueryBuilder.buildFindAllQuery(getEntityType());
+      for (List<PK> chunk : Lists.partition(remainingKeys, getInClauseLimit())) {
+        List<E> entities = getEntityManager().createQuery(findAllQuery, getEntityType()).setParameter(QueryBuilder.PARAM_IDS, chunk)
+            .getResultList();
+        for (E entity : entities) {
+          results.put(metadata.getId(entity), entity);
+        }
+      }
+    }
+    return results;
   }
 
   /**
@@ -46,17 +147,13 @@ public abstract class GenericDao<E, PK extends Serializable> {
    */
   public PK create(E entity) {
     getEntityManager().persist(entity);
+    invalidateCache();
 
-    if (isGeneratedValue(entity)) {
+    if (EntityMetadata.of(entity.getClass()).isGeneratedValue()) {
       getEntityManager().flush();
     }
 
-    PK pk = ReflectionUtils.getAnnotatedField(Id.class, entity);
-    if (pk != null) {
-      return pk;
-    }
-
-    return ReflectionUtils.getAnnotatedField(EmbeddedId.class, entity);
+    return getPrimaryKey(entity);
   }
 
   /**
@@ -66,15 +163,225 @@ public abstract class GenericDao<E, PK extends Serializable> {
    */
   public void update(E entity) {
     getEntityManager().merge(entity);
+    invalidateCache();
   }
 
   /**
    * Delete.
+   * 管理対象外(detached)のEntity(読み込みキャッシュから取得したEntityなど)は管理対象にしてから削除します.
    *
    * @param entity Entity
    */
   public void delete(E entity) {
-    getEntityManager().remove(entity);
+    getEntityManager().remove(getEntityManager().contains(entity) ? entity : getEntityManager().merge(entity));
+    invalidateCache();
+  }
+
+  /**
+   * 一括Insert.
+   * バッチサイズは設定ファイル({@code framework.dao.batchSize})の値を使用します.
+   *
+   * @param entities Entityのコレクション
+   * @return PKのリスト
+   * @see #createAll(Collection, int)
+   */
+  public List<PK> createAll(Collection<E> entities) {
+    return createAll(entities, getBatchSize());
+  }
+
+  /**
+   * 一括Insert.
+   * バッチサイズ単位でDB反映し、永続性コンテキストをクリアします.
+   * PKを自動採番する場合も、PKの確定はバッチサイズ単位のDB反映時に行います.
+   * JDBCバッチ更新を有効にするには、JPAプロバイダーの設定(persistence.xml)も必要です.
+   *
+   * @param entities Entityのコレクション
+   * @param batchSize バッチサイズ
+   * @return PKのリスト(Entityのコレクションの順)
+   */
+  public List<PK> createAll(Collection<E> entities, int batchSize) {
+    List<PK> primaryKeys = new ArrayList<>(entities.size());
+    executeBatch("create", entities, batchSize, getEntityManager()::persist, entity -> primaryKeys.add(getPrimaryKey(entity)));
+    return primaryKeys;
+  }
+
+  /**
+   * 一括Update.
+   * バッチサイズは設定ファイル({@code framework.dao.batchSize})の値を使用します.
+   *
+   * @param entities Entityのコレクション
+   * @see #updateAll(Collection, int)
+   */
+  public void updateAll(Collection<E> entities) {
+    updateAll(entities, getBatchSize());
+  }
+
+  /**
+   * 一括Update.
+   * バッチサイズ単位でDB反映し、永続性コンテキストをクリアします.
+   *
+   * @param entities Entityのコレクション
+   * @param batchSize バッチサイズ
+   */
+  public void updateAll(Collection<E> entities, int batchSize) {
+    executeBatch("update", entities, batchSize, getEntityManager()::merge, null);
+  }
+
+  /**
+   * 一括Delete.
+   * バッチサイズは設定ファイル({@code framework.dao.batchSize})の値を使用します.
+   *
+   * @param entities Entityのコレクション
+   * @see #deleteAll(Collection, int)
+   */
+  public void deleteAll(Collection<E> entities) {
+    deleteAll(entities, getBatchSize());
+  }
+
+  /**
+   * 一括Delete.
+   * バッチサイズ単位でDB反映し、永続性コンテキストをクリアします.
+   * 管理対象外(detached)のEntityは管理対象にしてから削除します.
+   *
+   * @param entities Entityのコレクション
+   * @param batchSize バッチサイズ
+   */
+  public void deleteAll(Collection<E> entities, int batchSize) {
+    executeBatch("delete", entities, batchSize,
+        entity -> getEntityManager().remove(getEntityManager().contains(entity) ? entity : getEntityManager().merge(entity)), null);
+  }
+
+  /**
+   * 検索条件に該当するレコードを1回のDELETE文で一括削除します.
+   * 永続性コンテキストを経由しないため、削除済みのEntityが永続性コンテキストに残る場合があります.
+   * 条件が指定されていない場合は{@link SystemException}を送出します.
+   *
+   * @param condition 検索条件(クエリパラメーターMap、検索条件(述語)のみ使用します)
+   * @return 削除件数
+   */
+  public int deleteBy(SearchConditionDo condition) {
+    Query deleteQuery = getEntityManager().createQuery(QueryBuilder.buildDeleteQuery(getEntityType(), condition));
+    condition.getQueryParams().forEach(deleteQuery::setParameter);
+    condition.getPredicateParams().forEach(deleteQuery::setParameter);
+    int deleted = deleteQuery.executeUpdate();
+    invalidateCache();
+    return deleted;
+  }
+
+  /**
+   * 読み込みキャッシュからPrimary Key以外の条件(名前付きクエリなど)でEntityを取得します.
+   * キャッシュのキーは{@link #find(Serializable)}のPrimary Keyとは別に管理します.
+   * Dao、またはEntityに{@link ReadThroughCache}が付与されていない場合は、常に取得処理を実行します.
+   *
+   * @param queryName クエリ名(キャッシュのキー)
+   * @param loader 取得処理(引数のEntityManagerで検索すること)
+   * @return Entity
+   */
+  protected E findCachedByQuery(String queryName, Function<EntityManager, E> loader) {
+    return findCached(new EntityCache.QueryKey(queryName), loader);
+  }
+
+  /**
+   * 読み込みキャッシュからEntityを取得します.
+   * Dao、またはEntityに{@link ReadThroughCache}が付与されていない場合は、{@link #getEntityManager()}で取得処理を実行します.
+   * キャッシュの対象の場合、キャッシュには呼び出し元の永続性コンテキストとは別のEntityManagerで取得したEntityのコピーを保持し、
+   * 呼び出しごとにそのコピーを返却します.
+   * 呼び出し元の永続性コンテキストの管理対象のEntity(未反映の変更を含む)には影響しませんが、返却するEntityは管理対象外の参照専用として扱います.
+   * キャッシュの対象のEntityは{@link Serializable}を実装してください.
+   * 次の場合はキャッシュを使用せず、{@link #getEntityManager()}で取得処理を実行します.
+   * <ul>
+   * <li>JTAのトランザクション中で、同一トランザクションに完了前の更新がある場合(更新内容を参照するため)</li>
+   * <li>JTAを使用できず、トランザクション中の場合(トランザクションの完了を検知できないため)</li>
+   * </ul>
+   *
+   * @param key キー
+   * @param loader 取得処理(引数のEntityManagerで検索すること)
+   * @return Entity
+   */
+  private E findCached(Object key, Function<EntityManager, E> loader) {
+    EntityCache entityCache = EntityCache.of(getClass(), getEntityType());
+    if (entityCache == null || !isCacheable(entityCache)) {
+      return loader.apply(getEntityManager());
+    }
+
+    E snapshot = entityCache.get(key, () -> loadSnapshot(loader));
+    return snapshot == null ? null : copy(snapshot);
+  }
+
+  /**
+   * 現在のトランザクションで読み込みキャッシュを使用できるか判定します.
+   *
+   * @param entityCache {@link EntityCache} キャッシュ
+   * @return 使用できる場合はtrue
+   */
+  private boolean isCacheable(EntityCache entityCache) {
+    TransactionSynchronizationRegistry registry = getTransactionSynchronizationRegistry();
+    if (registry == null) {
+      return !getEntityManager().isJoinedToTransaction();
+    }
+    return !entityCache.isWriting(registry);
+  }
+
+  /**
+   * 読み込みキャッシュに保持するEntityを、呼び出し元とは別のEntityManagerで取得します.
+   * 遅延ロードの属性も含めてコピーするため、EntityManagerをクローズする前にコピーします.
+   *
+   * @param loader 取得処理
+   * @return Entityのコピー. 存在しない場合はnull
+   */
+  private E loadSnapshot(Function<EntityManager, E> loader) {
+    EntityManager entityManager = getEntityManager().getEntityManagerFactory().createEntityManager();
+    try {
+      E entity = loader.apply(entityManager);
+      return entity == null ? null : copy(entity);
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  /**
+   * Entityをコピー(deep copy)します.
+   * キャッシュの対象のEntityが{@link Serializable}であることは{@link EntityCache}の生成時に検証済みです.
+   *
+   * @param entity Entity
+   * @return Entityのコピー
+   */
+  @SuppressWarnings("unchecked")
+  private E copy(E entity) {
+    return (E) BeanUtilsExt.deepCopy((Serializable) entity);
+  }
+
+  /**
+   * 読み込みキャッシュを破棄します.
+   * JTAのトランザクション中の場合は、トランザクションの完了後にも破棄します.
+   * Dao、またはEntityに{@link ReadThroughCache}が付与されていない場合は何もしません.
+   */
+  protected void invalidateCache() {
+    EntityCache entityCache = EntityCache.of(getClass(), getEntityType());
+    if (entityCache != null) {
+      entityCache.invalidateOnCompletion(getTransactionSynchronizationRegistry());
+    }
+  }
+
+  /**
+   * IN句の最大要素数を取得します.
+   * DBのバインド変数の上限に合わせて設定します.
+   *
+   * @return IN句の最大要素数
+   */
+  protected int getInClauseLimit() {
+    int inClauseLimit = ConfigUtils.getAsInt(KEY_IN_CLAUSE_LIMIT);
+    return inClauseLimit > 0 ? inClauseLimit : DEFAULT_IN_CLAUSE_LIMIT;
+  }
+
+  /**
+   * 一括更新時のバッチサイズを取得します.
+   *
+   * @return バッチサイズ
+   */
+  protected int getBatchSize() {
+    int batchSize = ConfigUtils.getAsInt(KEY_BATCH_SIZE);
+    return batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
   }
 
   /**
@@ -87,35 +394,343 @@ public abstract class GenericDao<E, PK extends Serializable> {
   /**
    * 検索条件に従い検索結果を取得します.
    * 開始行から指定件数を検索します.
+   * キーセットページング({@link FilterDo#isKeyset()})の場合は、前ページ最終行のソートキー以降から指定件数を検索し、
+   * 次ページ検索用のソートキーを{@link FilterDo#getNextKeys()}に設定します.
+   * 全件数は{@link FilterDo#getCountMode()}に従い取得します.
    *
    * @param condition 検索条件
    * @return 検索結果
    */
-  @SuppressWarnings("unchecked")
   public List<E> search(SearchConditionDo condition) {
     QueryBuilder.buildQuery(getEntityType(), condition);
+    return executeSearch(getEntityManager(), condition, null);
+  }
+
+  /**
+   * 検索条件に従い射影(DTO)検索を行います.
+   * DTOのプロパティのうちEntityの基本属性で、かつ型が一致する(代入可能な)プロパティのみを検索し、検索結果をDTOで返却します.
+   * ページング、全件数の取得は{@link #search(SearchConditionDo)}と同様です.
+   * キーセットページングの場合、ソートキー(ID含む)はDTOのプロパティに含める必要があります.
+   *
+   * @param <D> DTO
+   * @param condition 検索条件
+   * @param dtoType DTOの型(引数なしのpublicコンストラクター、setterが必要)
+   * @return 検索結果
+   */
+  public <D> List<D> search(SearchConditionDo condition, Class<D> dtoType) {
+    DtoProjection<D> projection = DtoProjection.of(getEntityManager().getMetamodel(), getEntityType(), dtoType);
+    QueryBuilder.buildQuery(getEntityType(), projection.getFields(), condition);
+    return executeSearch(getEntityManager(), condition, projection::toDto);
+  }
+
+  /**
+   * 構築済みの検索結果取得クエリで検索します.
+   *
+   * @param <T> 検索結果の型
+   * @param entityManager 検索に使用するEntityManager
+   * @param condition 検索条件
+   * @param mapper 検索結果の行の変換処理(変換不要の場合はnull)
+   * @return 検索結果
+   */
+  @SuppressWarnings("unchecked")
+  private <T> List<T> executeSearch(EntityManager entityManager, SearchConditionDo condition, Function<Object, T> mapper) {
+    FilterDo filter = condition.getFilter();
+    filter.setTotal(count(entityManager, condition));
+
+    boolean hasNextMode = CountMode.HAS_NEXT == filter.getCountMode();
+    Query searchQuery = entityManager.createQuery(condition.getSearchQuery());
+    condition.getQueryParams().forEach(searchQuery::setParameter);
+    condition.getPredicateParams().forEach(searchQuery::setParameter);
+    condition.getKeysetParams().forEach(searchQuery::setParameter);
+    // キーセットページングの場合は条件で開始位置を絞り込むため、読み飛ばしは不要
+    searchQuery.setFirstResult(filter.isKeyset() ? 0 : filter.getOffset());
+    // 次ページ有無の判定のみ行う場合は1件多く検索
+    searchQuery.setMaxResults(hasNextMode ? filter.getLimit() + 1 : filter.getLimit());
+    // 1ページ分を1回のフェッチで取得(未対応のヒントはJPAプロバイダーに無視される)
+    searchQuery.setHint(HINT_FETCH_SIZE_ECLIPSELINK, filter.getLimit());
+    searchQuery.setHint(HINT_FETCH_SIZE_HIBERNATE, filter.getLimit());
+    long startTime = System.nanoTime();
+    List<Object> rows = searchQuery.getResultList();
+    MetricsRegistry.timer(METRIC_SEARCH, "DAO search time in seconds.", "entity", getEntityType().getSimpleName())
+        .record(System.nanoTime() - startTime);
+
+    if (hasNextMode) {
+      filter.setHasNext(rows.size() > filter.getLimit());
+      if (filter.isHasNext()) {
+        rows = new ArrayList<>(rows.subList(0, filter.getLimit()));
+
+      } else if (!filter.isKeyset()) {
+        // 最終ページの場合は全件数が確定する
+        filter.setTotal(filter.getOffset() + rows.size());
+
+      }
+    }
+
+    List<T> resultList;
+    if (mapper == null) {
+      resultList = (List<T>) rows;
+    } else {
+      resultList = new ArrayList<>(rows.size());
+      for (Object row : rows) {
+        resultList.add(mapper.apply(row));
+      }
+    }
+
+    if (filter.isKeyset()) {
+      filter.setNextKeys(extractNextKeys(condition, resultList));
+    }
+    return resultList;
+  }
+
+  /**
+   * 検索条件に従い検索結果を順次取得するストリームを返します.
+   * 検索結果全件を保持せず、キーセットページングによりフェッチサイズ単位で検索します.
+   * 検索は呼び出し元とは別のEntityManagerで行い、フェッチサイズ分を読み進めるごとにその永続性コンテキストをクリアするため、
+   * ヒープ使用量は検索結果の件数に依存せず、呼び出し元の永続性コンテキストの管理対象のEntityは切り離しません.
+   * 取得したEntityは呼び出し元の永続性コンテキストの管理対象外のため、変更を反映する場合は{@link #update(Object)}を呼び出してください.
+   * トランザクション中であれば、検索前に呼び出し元の変更内容をDBに反映します.
+   * 別のEntityManagerは最終ページを読み終えた後、またはストリームのクローズ時にクローズします.
+   * 途中で読み終える場合はtry-with-resourcesでストリームをクローズしてください.
+   *
+   * @param condition 検索条件(offset、limit、全件数の取得方法は無視します. 検索条件は変更しません)
+   * @param fetchSize フェッチサイズ(1回の検索で取得する件数)
+   * @return 検索結果のストリーム
+   */
+  public Stream<E> stream(SearchConditionDo condition, int fetchSize) {
+    ChunkIterator chunks = new ChunkIterator(condition, fetchSize);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(chunks::close)
+        .flatMap(List::stream);
+  }
+
+  /**
+   * 検索条件に従い検索結果をフェッチサイズ単位で取得し、コールバックを実行します.
+   * 処理内容は{@link #stream(SearchConditionDo, int)}と同様で、別のEntityManagerは処理の終了時にクローズします.
+   *
+   * @param condition 検索条件(offset、limit、全件数の取得方法は無視します. 検索条件は変更しません)
+   * @param fetchSize フェッチサイズ(1回の検索で取得する件数)
+   * @param callback フェッチサイズ単位の検索結果を処理するコールバック
+   */
+  public void forEachChunk(SearchConditionDo condition, int fetchSize, Consumer<List<E>> callback) {
+    ChunkIterator chunks = new ChunkIterator(condition, fetchSize);
+    try {
+      chunks.forEachRemaining(callback);
+    } finally {
+      chunks.close();
+    }
+  }
+
+  /**
+   * 全件数の取得方法に従い全件数を取得します.
+   *
+   * @param entityManager 検索に使用するEntityManager
+   * @param condition 検索条件
+   * @return 全件数、取得しない場合は-1
+   */
+  private int count(EntityManager entityManager, SearchConditionDo condition) {
+    FilterDo filter = condition.getFilter();
+    switch (filter.getCountMode()) {
+      case SKIP:
+      case HAS_NEXT:
+        return UNKNOWN_TOTAL;
+
+      case CACHED:
+        String key = getEntityType().getName() + condition.getCountQuery() + condition.getQueryParams() + condition.getPredicateParams();
+        return SearchCountCache.get(key, filter.getCountCacheTtl(), () -> executeCount(entityManager, condition));
 
-    Query countQuery = getEntityManager().createQuery(condition.getCountQuery());
+      default:
+        return executeCount(entityManager, condition);
+
+    }
+  }
+
+  /**
+   * 検索件数取得クエリを実行します.
+   *
+   * @param entityManager 検索に使用するEntityManager
+   * @param condition 検索条件
+   * @return 全件数
+   */
+  private int executeCount(EntityManager entityManager, SearchConditionDo condition) {
+    Query countQuery = entityManager.createQuery(condition.getCountQuery());
     condition.getQueryParams().forEach(countQuery::setParameter);
+    condition.getPredicateParams().forEach(countQuery::setParameter);
+    long startTime = System.nanoTime();
     int count = ((Long) countQuery.getSingleResult()).intValue();
-    condition.getFilter().setTotal(count);
+    MetricsRegistry.timer(METRIC_COUNT, "DAO count time in seconds.", "entity", getEntityType().getSimpleName())
+        .record(System.nanoTime() - startTime);
+    return count;
+  }
 
-    Query searchQuery = getEntityManager().createQuery(condition.getSearchQuery());
-    condition.getQueryParams().forEach(searchQuery::setParameter);
-    searchQuery.setFirstResult(condition.getFilter().getOffset());
-    searchQuery.setMaxResults(condition.getFilter().getLimit());
-    return searchQuery.getResultList();
+  /**
+   * 検索結果の最終行から次ページ検索用のソートキー値を取得します.
+   *
+   * @param condition 検索条件
+   * @param resultList 検索結果
+   * @return ソートキー値のリスト、次ページが存在しない場合はnull
+   */
+  private List<Object> extractNextKeys(SearchConditionDo condition, List<?> resultList) {
+    FilterDo filter = condition.getFilter();
+    boolean lastPage = CountMode.HAS_NEXT == filter.getCountMode() ? !filter.isHasNext() : resultList.size() < filter.getLimit();
+    if (resultList.isEmpty() || lastPage) {
+      return null;
+    }
+
+    Object last = resultList.get(resultList.size() - 1);
+    List<Object> nextKeys = new ArrayList<>();
+    for (SortDo sort : QueryBuilder.getKeysetSortList(getEntityType(), condition)) {
+      nextKeys.add(ReflectionUtils.getProperty(last, sort.getField()));
+    }
+    return nextKeys;
+  }
+
+  /**
+   * Entityのコレクションをバッチサイズ単位に分割して処理します.
+   * バッチごとにDB反映、永続性コンテキストのクリアを行い、処理時間を性能ログに出力します.
+   *
+   * @param operation 処理名
+   * @param entities Entityのコレクション
+   * @param batchSize バッチサイズ
+   * @param action Entityごとの処理
+   * @param afterFlush DB反映後のEntityごとの処理(不要な場合はnull)
+   */
+  private void executeBatch(String operation, Collection<E> entities, int batchSize, Consumer<E> action, Consumer<E> afterFlush) {
+    invalidateCache();
+    List<List<E>> batches = Lists.partition(new ArrayList<>(entities), Math.max(batchSize, 1));
+    for (int i = 0; i < batches.size(); i++) {
+      long startTime = System.nanoTime();
+      List<E> batch = batches.get(i);
+
+      batch.forEach(action);
+      getEntityManager().flush();
+      if (afterFlush != null) {
+        batch.forEach(afterFlush);
+      }
+      getEntityManager().clear();
+
+      PERFORMANCE_LOGGER.debug("Batch {}: {}/{}, Entity: {}, Size: {}, Total time: {} milliseconds", operation, i + 1, batches.size(),
+          getEntityType().getSimpleName(), batch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
   }
 
   /**
-   * DBによる自動採番を行うカラムが存在するか確認します.
+   * EntityのPKを取得します.
    *
    * @param entity Entity
-   * @return 自動採番を行うカラムが存在する場合はtrue
+   * @return PK. PKが存在しない場合はnull
+   */
+  private PK getPrimaryKey(E entity) {
+    return EntityMetadata.of(entity.getClass()).getId(entity);
+  }
+
+  /**
+   * フェッチサイズ単位の検索結果のイテレーター.
+   * 呼び出し元とは別のEntityManagerで検索します.
    */
-  private boolean isGeneratedValue(E entity) {
-    return Arrays.stream(entity.getClass().getDeclaredFields())
-        .anyMatch(field -> field.getAnnotation(Id.class) != null && field.getAnnotation(GeneratedValue.class) != null);
+  private class ChunkIterator implements Iterator<List<E>> {
+
+    /** 検索条件(呼び出し元の検索条件のコピー). */
+    private final SearchConditionDo condition;
+
+    /** 検索に使用するEntityManager(初回の検索時に生成). */
+    private EntityManager entityManager;
+
+    /** 次の検索結果. */
+    private List<E> nextChunk;
+
+    /** 最終ページ検索済み. */
+    private boolean finished;
+
+    /** 検索済み. */
+    private boolean searched;
+
+    /**
+     * コンストラクター.
+     * 検索ごとにフィルター、クエリを書き換えるため、呼び出し元の検索条件は変更せずにコピーして使用します.
+     *
+     * @param condition 検索条件
+     * @param fetchSize フェッチサイズ
+     */
+    ChunkIterator(SearchConditionDo condition, int fetchSize) {
+      this.condition = SearchConditionDo.builder()
+          .filter(FilterDo.builder().keyset(true).limit(fetchSize).countMode(CountMode.HAS_NEXT).build())
+          .sortList(condition.getSortList() == null ? new ArrayList<>() : new ArrayList<>(condition.getSortList()))
+          .queryParams(condition.getQueryParams() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(condition.getQueryParams()))
+          .predicates(condition.getPredicates() == null ? new ArrayList<>() : new ArrayList<>(condition.getPredicates()))
+          .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+      if (nextChunk == null && !finished) {
+        nextChunk = fetch();
+      }
+      if (nextChunk == null) {
+        // 最終ページまで読み終えた後にクローズ(最終ページの処理中は遅延ロードできるようにする)
+        close();
+      }
+      return nextChunk != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<E> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<E> chunk = nextChunk;
+      nextChunk = null;
+      return chunk;
+    }
+
+    /**
+     * 次の検索結果を取得します.
+     * 初回は呼び出し元の変更内容をDBに反映してから別のEntityManagerを生成し、
+     * 2回目以降は前回の検索結果を永続性コンテキストから解放してから検索します.
+     *
+     * @return 検索結果、存在しない場合はnull
+     */
+    private List<E> fetch() {
+      if (searched) {
+        entityManager.clear();
+      } else {
+        if (getEntityManager().isJoinedToTransaction()) {
+          getEntityManager().flush();
+        }
+        entityManager = getEntityManager().getEntityManagerFactory().createEntityManager();
+      }
+
+      List<E> chunk;
+      try {
+        QueryBuilder.buildQuery(getEntityType(), condition);
+        chunk = executeSearch(entityManager, condition, null);
+      } catch (RuntimeException e) {
+        close();
+        throw e;
+      }
+      searched = true;
+      FilterDo filter = condition.getFilter();
+      filter.setLastKeys(filter.getNextKeys());
+      finished = filter.getNextKeys() == null;
+      return chunk.isEmpty() ? null : chunk;
+    }
+
+    /**
+     * 検索に使用するEntityManagerをクローズします.
+     */
+    void close() {
+      finished = true;
+      if (entityManager != null) {
+        entityManager.close();
+        entityManager = null;
+      }
+    }
+
   }
 
 }
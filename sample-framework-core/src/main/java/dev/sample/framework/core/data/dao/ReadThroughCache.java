@@ -0,0 +1,34 @@
+package dev.sample.framework.core.data.dao;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 読み込みキャッシュ.
+ * Dao、またはEntityに付与すると、{@link GenericDao}の検索結果をキャッシュします.
+ * {@link GenericDao}による更新、削除時はEntityのキャッシュを破棄します.
+ * JTAのトランザクション中の場合はトランザクションの完了後にも破棄し、完了までは同一トランザクションでキャッシュを使用しません.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ReadThroughCache {
+
+  /**
+   * 最大保持件数.
+   *
+   * @return 最大保持件数
+   */
+  long maximumSize() default 1000L;
+
+  /**
+   * 有効期間(秒).
+   *
+   * @return 有効期間(秒)
+   */
+  long expireAfterWriteSeconds() default 300L;
+
+}
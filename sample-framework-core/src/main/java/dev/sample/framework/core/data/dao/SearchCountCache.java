@@ -0,0 +1,67 @@
+package dev.sample.framework.core.data.dao;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+
+/**
+ * 検索件数キャッシュ.
+ * Entity、検索件数取得クエリ、クエリパラメーターをキーに全件数を保持します.
+ */
+@UtilityClass
+public class SearchCountCache {
+
+  /** 最大保持件数. */
+  private static final long MAXIMUM_SIZE = 1000L;
+
+  /** キャッシュ. */
+  private static final Cache<String, CachedCount> CACHE = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+  /**
+   * 全件数を取得します.
+   * 有効期間内のキャッシュが存在しない場合は、全件数を取得してキャッシュします.
+   *
+   * @param key キー
+   * @param ttlSeconds 有効期間(秒)
+   * @param loader 全件数の取得処理
+   * @return 全件数
+   */
+  public static int get(String key, int ttlSeconds, IntSupplier loader) {
+    long now = System.nanoTime();
+    CachedCount cached = CACHE.getIfPresent(key);
+    if (cached != null && now - cached.getCachedAt() < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+      return cached.getCount();
+    }
+
+    int count = loader.getAsInt();
+    CACHE.put(key, new CachedCount(count, now));
+    return count;
+  }
+
+  /**
+   * キャッシュをすべて破棄します.
+   */
+  public static void invalidateAll() {
+    CACHE.invalidateAll();
+  }
+
+  /**
+   * キャッシュした全件数.
+   */
+  @AllArgsConstructor
+  @Getter
+  private static class CachedCount {
+
+    /** 全件数. */
+    private final int count;
+
+    /** キャッシュ時刻({@link System#nanoTime()}). */
+    private final long cachedAt;
+
+  }
+
+}
@@ -11,10 +11,23 @@ public class SystemDateDao extends MyDbDao<SystemDateEntity, String> {
 
   /**
    * 1件取得.
+   * 読み込みキャッシュ({@link ReadThroughCache})はデフォルトでは無効です.
+   * 使用する場合は本Daoを継承(特化)したDaoに{@link ReadThroughCache}を付与してください.
    *
    * @return {@link SystemDateEntity} システム日付マスタEntity
    */
   public SystemDateEntity find() {
+    return findCachedByQuery(SystemDateEntity.FIND,
+        entityManager -> (SystemDateEntity) entityManager.createNamedQuery(SystemDateEntity.FIND).getSingleResult());
+  }
+
+  /**
+   * 1件取得.
+   * 読み込みキャッシュ({@link ReadThroughCache})を使用せず、常にシステム日付マスタを検索します.
+   *
+   * @return {@link SystemDateEntity} システム日付マスタEntity
+   */
+  public SystemDateEntity load() {
     return (SystemDateEntity) getEntityManager().createNamedQuery(SystemDateEntity.FIND).getSingleResult();
   }
 
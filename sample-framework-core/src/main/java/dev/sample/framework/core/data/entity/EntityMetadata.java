@@ -0,0 +1,138 @@
+package dev.sample.framework.core.data.entity;
+
+import dev.sample.framework.core.util.ReflectionUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.persistence.EmbeddedId;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+/**
+ * Entityのメタデータ.
+ * PK、バージョンなどのアノテーション情報をEntityのクラスごとに1回だけ解析し、保持します.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EntityMetadata {
+
+  /** メタデータのキャッシュ. */
+  private static final ConcurrentMap<Class<?>, EntityMetadata> CACHE = new ConcurrentHashMap<>();
+
+  /** Entityの型. */
+  private final Class<?> entityType;
+
+  /** PKのフィールド({@link Id}または{@link EmbeddedId}). PKが存在しない場合はnull. */
+  private final Field idField;
+
+  /** PKのアクセサー. PKが存在しない場合はnull. */
+  @Getter(AccessLevel.NONE)
+  private final MethodHandle idAccessor;
+
+  /** 複合PK({@link EmbeddedId})の場合true. */
+  private final boolean embeddedId;
+
+  /** PKをDBで自動採番({@link GeneratedValue})する場合true. */
+  private final boolean generatedValue;
+
+  /** PKのプロパティ名のリスト(複合PKの場合は「PK名.プロパティ名」). */
+  private final List<String> idFieldNames;
+
+  /** バージョンのフィールド({@link Version}). 存在しない場合はnull. */
+  private final Field versionField;
+
+  /** バージョンのアクセサー. 存在しない場合はnull. */
+  @Getter(AccessLevel.NONE)
+  private final MethodHandle versionAccessor;
+
+  /**
+   * Entityのメタデータを取得します.
+   * 初回のみ解析し、以降はキャッシュを返却します.
+   *
+   * @param entityType Entityの型
+   * @return {@link EntityMetadata} Entityのメタデータ
+   */
+  public static EntityMetadata of(@NonNull Class<?> entityType) {
+    return CACHE.computeIfAbsent(entityType, EntityMetadata::create);
+  }
+
+  /**
+   * EntityのPKを取得します.
+   *
+   * @param <T> PKの型
+   * @param entity Entity
+   * @return PK. PKが存在しない場合はnull
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getId(@NonNull Object entity) {
+    return idAccessor == null ? null : (T) ReflectionUtils.invoke(idAccessor, entity);
+  }
+
+  /**
+   * Entityのバージョンを取得します.
+   *
+   * @param entity Entity
+   * @return バージョン. バージョンが存在しない場合はnull
+   */
+  public Object getVersion(@NonNull Object entity) {
+    return versionAccessor == null ? null : ReflectionUtils.invoke(versionAccessor, entity);
+  }
+
+  /**
+   * Entityを解析してメタデータを生成します.
+   *
+   * @param entityType Entityの型
+   * @return {@link EntityMetadata} Entityのメタデータ
+   */
+  private static EntityMetadata create(Class<?> entityType) {
+    Field idField = ReflectionUtils.findAnnotatedField(Id.class, entityType);
+    boolean embeddedId = false;
+    if (idField == null) {
+      idField = ReflectionUtils.findAnnotatedField(EmbeddedId.class, entityType);
+      embeddedId = idField != null;
+    }
+    boolean generatedValue = idField != null && idField.getAnnotation(GeneratedValue.class) != null;
+
+    Field versionField = ReflectionUtils.findAnnotatedField(Version.class, entityType);
+
+    return new EntityMetadata(entityType, idField, idField == null ? null : ReflectionUtils.getAccessor(idField), embeddedId,
+        generatedValue, getIdFieldNames(idField, embeddedId), versionField,
+        versionField == null ? null : ReflectionUtils.getAccessor(versionField));
+  }
+
+  /**
+   * PKのプロパティ名のリストを取得します.
+   * 複合PKの場合は「PK名.プロパティ名」の形式で返却します.
+   *
+   * @param idField PKのフィールド
+   * @param embeddedId 複合PKの場合true
+   * @return PKのプロパティ名のリスト
+   */
+  private static List<String> getIdFieldNames(Field idField, boolean embeddedId) {
+    if (idField == null) {
+      return Collections.emptyList();
+    }
+    if (!embeddedId) {
+      return Collections.singletonList(idField.getName());
+    }
+
+    List<String> idFieldNames = new ArrayList<>();
+    for (Field field : FieldUtils.getAllFieldsList(idField.getType())) {
+      if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+        idFieldNames.add(idField.getName() + "." + field.getName());
+      }
+    }
+    return Collections.unmodifiableList(idFieldNames);
+  }
+}
@@ -1,9 +1,10 @@
 package dev.sample.framework.core.interceptor;
 
 import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
 import dev.sample.framework.core.util.CdiUtils;
-import dev.sample.framework.core.util.MessageUtils;
 import java.io.Serializable;
+import java.util.function.Supplier;
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -31,28 +32,30 @@ public class DebugLoggingInterceptor implements Serializable {
    */
   @AroundInvoke
   public Object log(InvocationContext context) throws Exception {
-    DebugLog annotation = context.getMethod().getAnnotation(DebugLog.class);
-    Class<?> dtoClass = annotation.dtoClass();
-    Object dto = "";
-    if (dtoClass != String.class) {
-      dto = CdiUtils.getBean(dtoClass);
+    InterceptorBindingCache.Binding<DebugLog> binding = InterceptorBindingCache.resolve(context, DebugLog.class, DebugLog::outputTiming);
+    DebugLog annotation = binding.getAnnotation();
+    if (annotation == null) {
+      return context.proceed();
     }
+    Class<?> dtoClass = annotation.dtoClass();
+    // DTOはログ出力時のみ取得、文字列化する
+    Supplier<Object> dto = () -> dtoClass != String.class ? CdiUtils.getBean(dtoClass) : "";
 
-    if (OutputTiming.BEGIN == annotation.outputTiming() || OutputTiming.BOTH == annotation.outputTiming()) {
-      log.debug(MessageUtils.getMessage(CoreMessageId.F0013D, annotation.processName(), annotation.viewName(), dto.toString()));
+    if (binding.isBegin()) {
+      log.debug("{}", LazyMessage.of(CoreMessageId.F0013D, annotation.processName(), annotation.viewName(), dto));
     }
 
     try {
       Object obj = context.proceed();
 
-      if (OutputTiming.COMPLETE == annotation.outputTiming() || OutputTiming.BOTH == annotation.outputTiming()) {
-        log.debug(MessageUtils.getMessage(CoreMessageId.F0014D, annotation.processName(), annotation.viewName(), dto.toString()));
+      if (binding.isComplete()) {
+        log.debug("{}", LazyMessage.of(CoreMessageId.F0014D, annotation.processName(), annotation.viewName(), dto));
       }
       return obj;
 
     } catch (Exception e) {
-      if (OutputTiming.COMPLETE == annotation.outputTiming() || OutputTiming.BOTH == annotation.outputTiming()) {
-        log.error(MessageUtils.getMessage(CoreMessageId.F0015E, annotation.processName(), annotation.viewName(), dto.toString()));
+      if (binding.isComplete()) {
+        log.error("{}", LazyMessage.of(CoreMessageId.F0015E, annotation.processName(), annotation.viewName(), dto));
       }
       throw e;
 
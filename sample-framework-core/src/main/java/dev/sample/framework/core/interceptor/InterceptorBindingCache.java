@@ -0,0 +1,85 @@
+package dev.sample.framework.core.interceptor;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+
+/**
+ * インターセプターバインディングのキャッシュ.
+ * メソッド、クラスの順にインターセプターバインディングを検索し、メソッドごとに解決結果を保持します.
+ */
+@UtilityClass
+class InterceptorBindingCache {
+
+  /** 解決済みのインターセプターバインディング. */
+  private static final ConcurrentMap<BindingKey, Binding<?>> CACHE = new ConcurrentHashMap<>();
+
+  /**
+   * インターセプターバインディングを取得します.
+   *
+   * @param <A> インターセプターバインディングの型
+   * @param context InvocationContext
+   * @param bindingType インターセプターバインディングの型
+   * @param outputTiming ログ出力タイミングの取得処理(ログ出力タイミングを持たない場合はnull)
+   * @return 解決済みのインターセプターバインディング
+   */
+  @SuppressWarnings("unchecked")
+  static <A extends Annotation> Binding<A> resolve(InvocationContext context, Class<A> bindingType,
+      Function<A, OutputTiming> outputTiming) {
+    Method method = context.getMethod();
+    Class<?> targetType = context.getTarget() != null ? context.getTarget().getClass() : method.getDeclaringClass();
+    return (Binding<A>) CACHE.computeIfAbsent(new BindingKey(method, targetType, bindingType), key -> {
+      A annotation = method.getAnnotation(bindingType);
+      if (annotation == null) {
+        // クラスに付与されたインターセプターバインディング(CDIプロキシの場合は@Inheritedにより継承)
+        annotation = targetType.getAnnotation(bindingType);
+      }
+      if (annotation == null) {
+        annotation = method.getDeclaringClass().getAnnotation(bindingType);
+      }
+      OutputTiming timing = annotation != null && outputTiming != null ? outputTiming.apply(annotation) : null;
+      return new Binding<>(annotation, timing != null && timing.isBegin(), timing != null && timing.isComplete());
+    });
+  }
+
+  /**
+   * 解決済みのインターセプターバインディング.
+   *
+   * @param <A> インターセプターバインディングの型
+   */
+  @Value
+  static class Binding<A extends Annotation> {
+
+    /** インターセプターバインディング(ステレオタイプ経由などで解決できない場合はnull). */
+    private final A annotation;
+
+    /** 開始時にログを出力する場合はtrue. */
+    private final boolean begin;
+
+    /** 終了時にログを出力する場合はtrue. */
+    private final boolean complete;
+
+  }
+
+  /**
+   * キャッシュのキー.
+   */
+  @Value
+  private static class BindingKey {
+
+    /** メソッド. */
+    private final Method method;
+
+    /** インターセプト対象の型. */
+    private final Class<?> targetType;
+
+    /** インターセプターバインディングの型. */
+    private final Class<? extends Annotation> bindingType;
+
+  }
+}
@@ -1,8 +1,8 @@
 package dev.sample.framework.core.interceptor;
 
 import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
 import dev.sample.framework.core.util.CdiUtils;
-import dev.sample.framework.core.util.MessageUtils;
 import java.io.Serializable;
 import javax.annotation.Priority;
 import javax.enterprise.context.Conversation;
@@ -35,9 +35,10 @@ public class InvokeConversationInterceptor implements Serializable {
    */
   @AroundInvoke
   public Object invoke(InvocationContext context) throws Exception {
-    InvokeConversation annotation = context.getMethod().getAnnotation(InvokeConversation.class);
+    InvokeConversation annotation = InterceptorBindingCache.resolve(context, InvokeConversation.class, null).getAnnotation();
+    InvokeConversation.Type type = annotation != null ? annotation.type() : InvokeConversation.Type.DO_NOTHING;
 
-    if (InvokeConversation.Type.START == annotation.type()) {
+    if (InvokeConversation.Type.START == type) {
       startConversation();
     }
 
@@ -45,7 +46,7 @@ public class InvokeConversationInterceptor implements Serializable {
       return context.proceed();
 
     } finally {
-      if (InvokeConversation.Type.END == annotation.type()) {
+      if (InvokeConversation.Type.END == type) {
         endConversation();
       }
     }
@@ -60,7 +61,7 @@ public class InvokeConversationInterceptor implements Serializable {
       conv.begin();
       // timeout default 10m -> 30m (> session timeout)
       conv.setTimeout(CONVERSATION_TIMEOUT_MILLISEC);
-      log.info(MessageUtils.getMessage(CoreMessageId.F0010I), conv.getId());
+      log.info("{}", LazyMessage.of(CoreMessageId.F0010I, conv.getId()));
     }
   }
 
@@ -71,7 +72,7 @@ public class InvokeConversationInterceptor implements Serializable {
     Conversation conv = CdiUtils.getBean(Conversation.class);
     if (!conv.isTransient()) {
       conv.end();
-      log.info(MessageUtils.getMessage(CoreMessageId.F0011I), conv.getId());
+      log.info("{}", LazyMessage.of(CoreMessageId.F0011I, conv.getId()));
     }
   }
 
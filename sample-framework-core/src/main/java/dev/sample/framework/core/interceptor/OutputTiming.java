@@ -11,4 +11,22 @@ public enum OutputTiming {
   /** 開始時+終了時. */
   BOTH,
   ;
+
+  /**
+   * 開始時にログを出力するか判定します.
+   *
+   * @return 開始時に出力する場合はtrue
+   */
+  public boolean isBegin() {
+    return BEGIN == this || BOTH == this;
+  }
+
+  /**
+   * 終了時にログを出力するか判定します.
+   *
+   * @return 終了時に出力する場合はtrue
+   */
+  public boolean isComplete() {
+    return COMPLETE == this || BOTH == this;
+  }
 }
@@ -27,22 +27,30 @@ public class UsageStatisticsLoggingInterceptor implements Serializable {
    */
   @AroundInvoke
   public Object log(InvocationContext context) throws Exception {
-    UsageStatistics annotation = context.getMethod().getAnnotation(UsageStatistics.class);
+    InterceptorBindingCache.Binding<UsageStatistics> binding =
+        InterceptorBindingCache.resolve(context, UsageStatistics.class, UsageStatistics::outputTiming);
+    UsageStatistics annotation = binding.getAnnotation();
+    if (annotation == null) {
+      return context.proceed();
+    }
 
-    if (OutputTiming.BEGIN == annotation.outputTiming() || OutputTiming.BOTH == annotation.outputTiming()) {
+    if (binding.isBegin()) {
       UsageStatisticsLogger.begin(annotation.processName(), annotation.param());
     }
 
+    long startTime = System.nanoTime();
     try {
       Object obj = context.proceed();
 
-      if (OutputTiming.COMPLETE == annotation.outputTiming() || OutputTiming.BOTH == annotation.outputTiming()) {
+      UsageStatisticsLogger.record(annotation.processName(), System.nanoTime() - startTime, false);
+      if (binding.isComplete()) {
         UsageStatisticsLogger.complete(annotation.processName(), annotation.param());
       }
       return obj;
 
     } catch (Exception e) {
-      if (OutputTiming.COMPLETE == annotation.outputTiming() || OutputTiming.BOTH == annotation.outputTiming()) {
+      UsageStatisticsLogger.record(annotation.processName(), System.nanoTime() - startTime, true);
+      if (binding.isComplete()) {
         UsageStatisticsLogger.error(annotation.processName(), annotation.param());
       }
       throw e;
@@ -0,0 +1,321 @@
+package dev.sample.framework.core.logger;
+
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * <PRE>
+ * 非同期一括出力Appender.
+ * ログイベントを固定長のキューに格納し、単一の出力スレッドがまとめて子Appenderに出力します.
+ * 子Appenderが{@link OutputStreamAppender}の場合は、まとめて出力した後に1回だけフラッシュします.
+ * キューが満杯の場合の動作は{@link OverflowPolicy}で指定します.
+ * </PRE>
+ * <pre>
+ * &lt;appender name="STATISTICS_LOG_APPENDER" class="dev.sample.framework.core.logger.BatchingAsyncAppender"&gt;
+ *     &lt;queueSize&gt;8192&lt;/queueSize&gt;
+ *     &lt;overflowPolicy&gt;DROP&lt;/overflowPolicy&gt;
+ *     &lt;appender-ref ref="STATISTICS_LOG_FILE_APPENDER" /&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class BatchingAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent> implements AppenderAttachable<ILoggingEvent> {
+
+  /** メトリクス名：キューに格納されている件数. */
+  private static final String METRIC_QUEUE_DEPTH = "framework_async_appender_queue_depth";
+
+  /** メトリクス名：破棄件数. */
+  private static final String METRIC_DROPPED = "framework_async_appender_dropped_total";
+
+  /** 起動中のAppender(Key:Appender名). */
+  private static final ConcurrentMap<String, BatchingAsyncAppender> APPENDERS = new ConcurrentHashMap<>();
+
+  /** キューの長さ. */
+  @Getter
+  @Setter
+  private int queueSize = 8192;
+
+  /** 1回にまとめて出力する最大件数. */
+  @Getter
+  @Setter
+  private int maxBatchSize = 256;
+
+  /** キューが満杯の場合の動作. */
+  @Getter
+  @Setter
+  private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+  /** 呼び出し元情報を取得する場合はtrue. */
+  @Getter
+  @Setter
+  private boolean includeCallerData;
+
+  /** 停止時にキューの残りを出力する最大待機時間(ミリ秒). */
+  @Getter
+  @Setter
+  private int maxFlushTime = 1000;
+
+  /** 子Appender. */
+  private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+  /** 破棄件数. */
+  private final LongAdder droppedCount = new LongAdder();
+
+  /** 出力件数. */
+  private final LongAdder writtenCount = new LongAdder();
+
+  /** キュー. */
+  private BlockingQueue<ILoggingEvent> queue;
+
+  /** 出力スレッド. */
+  private Thread worker;
+
+  /**
+   * キューが満杯の場合の動作.
+   */
+  public enum OverflowPolicy {
+    /** 破棄して破棄件数を加算. */
+    DROP,
+    /** 空きができるまで待機. */
+    BLOCK,
+    ;
+  }
+
+  /**
+   * 起動中のAppenderを取得します.
+   *
+   * @return 起動中のAppender
+   */
+  public static Collection<BatchingAsyncAppender> getAppenders() {
+    return Collections.unmodifiableCollection(APPENDERS.values());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void start() {
+    if (isStarted()) {
+      return;
+    }
+    if (queueSize < 1) {
+      addError("Invalid queue size [" + queueSize + "]");
+      return;
+    }
+
+    queue = new ArrayBlockingQueue<>(queueSize);
+    worker = new Thread(this::writeLoop, "BatchingAsyncAppender-" + getName());
+    worker.setDaemon(true);
+    super.start();
+    worker.start();
+    APPENDERS.put(getName(), this);
+    MetricsRegistry.gauge(METRIC_QUEUE_DEPTH, "Async appender queue depth.", this::getQueueDepth, "appender", getName());
+    MetricsRegistry.functionCounter(METRIC_DROPPED, "Async appender dropped events.", this::getDroppedCount, "appender", getName());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void stop() {
+    if (!isStarted()) {
+      return;
+    }
+    super.stop();
+    APPENDERS.remove(getName(), this);
+    MetricsRegistry.unregister(METRIC_QUEUE_DEPTH, "appender", getName());
+    MetricsRegistry.unregister(METRIC_DROPPED, "appender", getName());
+
+    // 出力スレッドはキューの残りを出力してから終了する
+    worker.interrupt();
+    try {
+      worker.join(maxFlushTime);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (worker.isAlive()) {
+      addWarn("Max flush timeout (" + maxFlushTime + " ms) exceeded. " + queue.size() + " queued events may be discarded.");
+    }
+    appenders.detachAndStopAllAppenders();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void append(ILoggingEvent event) {
+    // 書式化、MDCの取得は呼び出し元スレッドで行う
+    event.prepareForDeferredProcessing();
+    if (includeCallerData) {
+      event.getCallerData();
+    }
+
+    if (OverflowPolicy.BLOCK == overflowPolicy) {
+      try {
+        queue.put(event);
+      } catch (InterruptedException e) {
+        droppedCount.increment();
+        Thread.currentThread().interrupt();
+      }
+    } else if (!queue.offer(event)) {
+      droppedCount.increment();
+    }
+  }
+
+  /**
+   * キューのログイベントをまとめて子Appenderに出力します.
+   */
+  private void writeLoop() {
+    List<ILoggingEvent> batch = new ArrayList<>(maxBatchSize);
+    while (isStarted()) {
+      try {
+        batch.add(queue.take());
+        queue.drainTo(batch, maxBatchSize - 1);
+        write(batch);
+      } catch (InterruptedException e) {
+        break;
+      }
+    }
+
+    // 停止時はキューの残りを出力
+    while (queue.drainTo(batch, maxBatchSize) > 0) {
+      write(batch);
+    }
+  }
+
+  /**
+   * ログイベントを子Appenderに出力し、フラッシュします.
+   *
+   * @param batch ログイベントのリスト(出力後にクリアします)
+   */
+  @SuppressWarnings("unchecked")
+  private void write(List<ILoggingEvent> batch) {
+    for (ILoggingEvent event : batch) {
+      appenders.appendLoopOnAppenders(event);
+    }
+    writtenCount.add(batch.size());
+    batch.clear();
+
+    Iterator<Appender<ILoggingEvent>> it = appenders.iteratorForAppenders();
+    while (it.hasNext()) {
+      Appender<ILoggingEvent> appender = it.next();
+      if (appender instanceof OutputStreamAppender && ((OutputStreamAppender<ILoggingEvent>) appender).getOutputStream() != null) {
+        try {
+          ((OutputStreamAppender<ILoggingEvent>) appender).getOutputStream().flush();
+        } catch (IOException e) {
+          addError("Failed to flush appender [" + appender.getName() + "]", e);
+        }
+      }
+    }
+  }
+
+  /**
+   * キューに格納されている件数を取得します.
+   *
+   * @return キューに格納されている件数
+   */
+  public int getQueueDepth() {
+    return queue == null ? 0 : queue.size();
+  }
+
+  /**
+   * キューの空き件数を取得します.
+   *
+   * @return キューの空き件数
+   */
+  public int getRemainingCapacity() {
+    return queue == null ? queueSize : queue.remainingCapacity();
+  }
+
+  /**
+   * 破棄件数を取得します.
+   *
+   * @return 破棄件数
+   */
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  /**
+   * 出力件数を取得します.
+   *
+   * @return 出力件数
+   */
+  public long getWrittenCount() {
+    return writtenCount.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addAppender(Appender<ILoggingEvent> newAppender) {
+    addInfo("Attaching appender named [" + newAppender.getName() + "] to BatchingAsyncAppender.");
+    appenders.addAppender(newAppender);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+    return appenders.iteratorForAppenders();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Appender<ILoggingEvent> getAppender(String name) {
+    return appenders.getAppender(name);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isAttached(Appender<ILoggingEvent> appender) {
+    return appenders.isAttached(appender);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void detachAndStopAllAppenders() {
+    appenders.detachAndStopAllAppenders();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean detachAppender(Appender<ILoggingEvent> appender) {
+    return appenders.detachAppender(appender);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean detachAppender(String name) {
+    return appenders.detachAppender(name);
+  }
+}
@@ -0,0 +1,38 @@
+package dev.sample.framework.core.logger;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 処理時間のヒストグラムの統計情報.
+ * 処理時間はマイクロ秒です.
+ */
+@Builder
+@Data
+public class HistogramSnapshot {
+
+  /** 名称. */
+  private String name;
+
+  /** 件数. */
+  private long count;
+
+  /** エラー件数. */
+  private long errorCount;
+
+  /** 平均値. */
+  private double mean;
+
+  /** 50パーセンタイル値. */
+  private long p50;
+
+  /** 99パーセンタイル値. */
+  private long p99;
+
+  /** 99.9パーセンタイル値. */
+  private long p999;
+
+  /** 最大値. */
+  private long max;
+
+}
@@ -0,0 +1,196 @@
+package dev.sample.framework.core.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 処理時間のヒストグラム.
+ * 処理時間(マイクロ秒)を2のべき乗ごとに16分割した固定数のバケットで集計します(相対誤差6.25%以内).
+ * 記録はロックフリーで、メモリ使用量は記録件数によらず一定です.
+ */
+public final class LatencyHistogram {
+
+  /** 2のべき乗あたりのバケット数のビット数. */
+  private static final int SUB_BUCKET_BITS = 4;
+
+  /** 2のべき乗あたりのバケット数. */
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /** 線形に集計する範囲(マイクロ秒). */
+  private static final long LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+
+  /** 集計可能な最大値(マイクロ秒). これを超える値は最大値として集計します. */
+  private static final long MAX_VALUE = TimeUnit.HOURS.toMicros(1L);
+
+  /** バケット数. */
+  private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+  /** バケットごとの件数. */
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+  /** 件数. */
+  private final LongAdder count = new LongAdder();
+
+  /** エラー件数. */
+  private final LongAdder errorCount = new LongAdder();
+
+  /** 処理時間の合計(マイクロ秒). */
+  private final LongAdder total = new LongAdder();
+
+  /** 処理時間の最大値(マイクロ秒). */
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /** 前回の集計期間終了時点のバケットごとの件数. */
+  private final long[] lastBuckets = new long[BUCKET_COUNT];
+
+  /** 前回の集計期間終了時点の件数. */
+  private long lastCount;
+
+  /** 前回の集計期間終了時点のエラー件数. */
+  private long lastErrorCount;
+
+  /** 前回の集計期間終了時点の処理時間の合計(マイクロ秒). */
+  private long lastTotal;
+
+  /**
+   * 処理時間を記録します.
+   *
+   * @param elapsedNanos 処理時間(ナノ秒)
+   * @param error エラーの場合はtrue
+   */
+  public void record(long elapsedNanos, boolean error) {
+    long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 0L), MAX_VALUE);
+    buckets.incrementAndGet(indexOf(micros));
+    count.increment();
+    total.add(micros);
+    max.accumulate(micros);
+    if (error) {
+      errorCount.increment();
+    }
+  }
+
+  /**
+   * 記録開始からの統計情報を取得します.
+   *
+   * @param name 名称
+   * @return {@link HistogramSnapshot} 統計情報
+   */
+  public HistogramSnapshot snapshot(String name) {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return createSnapshot(name, counts, count.sum(), errorCount.sum(), total.sum(), max.get());
+  }
+
+  /**
+   * 前回呼び出し時からの統計情報を取得します.
+   * 最大値は集計期間内の最大のバケットの上限値となります.
+   *
+   * @param name 名称
+   * @return {@link HistogramSnapshot} 統計情報
+   */
+  public synchronized HistogramSnapshot intervalSnapshot(String name) {
+    long[] counts = new long[BUCKET_COUNT];
+    long intervalMax = 0L;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      long current = buckets.get(i);
+      counts[i] = current - lastBuckets[i];
+      lastBuckets[i] = current;
+      if (counts[i] > 0) {
+        intervalMax = upperBoundOf(i);
+      }
+    }
+    long currentCount = count.sum();
+    long currentErrorCount = errorCount.sum();
+    long currentTotal = total.sum();
+    HistogramSnapshot snapshot = createSnapshot(name, counts, currentCount - lastCount, currentErrorCount - lastErrorCount,
+        currentTotal - lastTotal, Math.min(intervalMax, max.get()));
+    lastCount = currentCount;
+    lastErrorCount = currentErrorCount;
+    lastTotal = currentTotal;
+    return snapshot;
+  }
+
+  /**
+   * 統計情報を生成します.
+   *
+   * @param name 名称
+   * @param counts バケットごとの件数
+   * @param count 件数
+   * @param errorCount エラー件数
+   * @param total 処理時間の合計(マイクロ秒)
+   * @param max 処理時間の最大値(マイクロ秒)
+   * @return {@link HistogramSnapshot} 統計情報
+   */
+  private static HistogramSnapshot createSnapshot(String name, long[] counts, long count, long errorCount, long total, long max) {
+    return HistogramSnapshot.builder()
+        .name(name)
+        .count(count)
+        .errorCount(errorCount)
+        .mean(count > 0 ? (double) total / count : 0d)
+        .p50(Math.min(percentile(counts, 0.5d), max))
+        .p99(Math.min(percentile(counts, 0.99d), max))
+        .p999(Math.min(percentile(counts, 0.999d), max))
+        .max(max)
+        .build();
+  }
+
+  /**
+   * パーセンタイル値を取得します.
+   *
+   * @param counts バケットごとの件数
+   * @param percentile パーセンタイル(0～1)
+   * @return パーセンタイル値(バケットの上限値)(マイクロ秒)
+   */
+  private static long percentile(long[] counts, double percentile) {
+    long total = 0L;
+    for (long c : counts) {
+      total += c;
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+
+    long rank = Math.max((long) Math.ceil(total * percentile), 1L);
+    long cumulative = 0L;
+    for (int i = 0; i < counts.length; i++) {
+      cumulative += counts[i];
+      if (cumulative >= rank) {
+        return upperBoundOf(i);
+      }
+    }
+    return upperBoundOf(counts.length - 1);
+  }
+
+  /**
+   * 値に対応するバケットのインデックスを取得します.
+   *
+   * @param value 値(マイクロ秒)
+   * @return バケットのインデックス
+   */
+  private static int indexOf(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return (int) ((shift + 1) * SUB_BUCKET_COUNT + (value >>> shift) - SUB_BUCKET_COUNT);
+  }
+
+  /**
+   * バケットの上限値を取得します.
+   *
+   * @param index バケットのインデックス
+   * @return 上限値(マイクロ秒)
+   */
+  private static long upperBoundOf(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,87 @@
+package dev.sample.framework.core.logger;
+
+import dev.sample.framework.core.config.ConfigUtils;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ログレベル設定.
+ * 設定ファイルの{@code framework.logging.levels}(「Logger名=ログレベル」形式のリスト)のログレベルをLoggerに設定します.
+ * 設定ファイルの再読み込み時は設定し直し、設定から削除されたLoggerは元のログレベルに戻します.
+ */
+@UtilityClass
+@Slf4j
+public class LoggerLevels {
+
+  /** キー情報：ログレベル. */
+  private static final String KEY_LEVELS = "framework.logging.levels";
+
+  /** Logger名とログレベルの区切り文字. */
+  private static final char SEPARATOR = '=';
+
+  /** 設定前のログレベル(Key:Logger名、Value:ログレベル(未設定の場合はempty)). */
+  private static final Map<String, Optional<Level>> ORIGINAL_LEVELS = new HashMap<>();
+
+  static {
+    ConfigUtils.addListener(changedKeys -> {
+      if (changedKeys.stream().anyMatch(key -> key.startsWith(KEY_LEVELS))) {
+        apply();
+      }
+    });
+  }
+
+  /**
+   * 設定ファイルのログレベルをLoggerに設定します.
+   * Logbackを使用していない場合は何もしません.
+   */
+  public static synchronized void apply() {
+    ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+    if (!(loggerFactory instanceof LoggerContext)) {
+      return;
+    }
+    LoggerContext context = (LoggerContext) loggerFactory;
+
+    Map<String, Level> levels = new LinkedHashMap<>();
+    List<String> entries = ConfigUtils.getAsStringList(KEY_LEVELS);
+    if (entries != null) {
+      for (String entry : entries) {
+        int index = entry.indexOf(SEPARATOR);
+        Level level = index > 0 ? Level.toLevel(entry.substring(index + 1).trim(), null) : null;
+        if (level == null) {
+          log.warn("{}", LazyMessage.of(CoreMessageId.F0026W, entry));
+          continue;
+        }
+        levels.put(entry.substring(0, index).trim(), level);
+      }
+    }
+
+    // 設定から削除されたLoggerは元のログレベルに戻す
+    Iterator<Map.Entry<String, Optional<Level>>> originals = ORIGINAL_LEVELS.entrySet().iterator();
+    while (originals.hasNext()) {
+      Map.Entry<String, Optional<Level>> original = originals.next();
+      if (!levels.containsKey(original.getKey())) {
+        context.getLogger(original.getKey()).setLevel(original.getValue().orElse(null));
+        originals.remove();
+      }
+    }
+
+    levels.forEach((name, level) -> {
+      Logger logger = context.getLogger(name);
+      ORIGINAL_LEVELS.putIfAbsent(name, Optional.ofNullable(logger.getLevel()));
+      logger.setLevel(level);
+    });
+  }
+}
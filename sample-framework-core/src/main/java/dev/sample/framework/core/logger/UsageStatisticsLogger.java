@@ -1,8 +1,18 @@
 package dev.sample.framework.core.logger;
 
 import dev.sample.framework.core.code.LoggerVo;
+import dev.sample.framework.core.config.ConfigUtils;
 import dev.sample.framework.core.message.CoreMessageId;
-import dev.sample.framework.core.util.MessageUtils;
+import dev.sample.framework.core.message.LazyMessage;
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import dev.sample.framework.core.metrics.Timer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.experimental.UtilityClass;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,13 +26,53 @@ public class UsageStatisticsLogger {
   /** 利用統計 Logger. */
   private static final Logger STATISTICS_LOGGER = LoggerFactory.getLogger(LoggerVo.STATISTICS_LOGGER.getCode());
 
+  /** キー情報：集計ログの出力間隔(秒). */
+  private static final String KEY_SUMMARY_INTERVAL = "framework.usageStatistics.summaryInterval";
+  /** 集計ログの出力間隔(秒)(デフォルト). */
+  private static final int DEFAULT_SUMMARY_INTERVAL = 60;
+
+  /** 処理名ごとの処理時間のタイマー(ヒストグラムを保持). */
+  private static final ConcurrentMap<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+  /** 集計ログの出力間隔(ナノ秒). 0以下の場合は出力しない. */
+  private static volatile long summaryIntervalNanos;
+
+  /** 次回の集計ログの出力時刻({@link System#nanoTime()}). */
+  private static final AtomicLong NEXT_SUMMARY_AT;
+
+  /** 前回の集計ログの出力時刻({@link System#nanoTime()}). */
+  private static volatile long lastSummaryAt = System.nanoTime();
+
+  static {
+    summaryIntervalNanos = getSummaryIntervalNanos();
+    NEXT_SUMMARY_AT = new AtomicLong(System.nanoTime() + summaryIntervalNanos);
+
+    // 出力間隔が変更された場合は、変更後の間隔で次回の出力時刻を設定し直す
+    ConfigUtils.addListener(changedKeys -> {
+      if (changedKeys.contains(KEY_SUMMARY_INTERVAL)) {
+        summaryIntervalNanos = getSummaryIntervalNanos();
+        NEXT_SUMMARY_AT.set(System.nanoTime() + summaryIntervalNanos);
+      }
+    });
+  }
+
+  /**
+   * 集計ログの出力間隔(ナノ秒)を設定から取得します.
+   *
+   * @return 集計ログの出力間隔(ナノ秒)
+   */
+  private static long getSummaryIntervalNanos() {
+    int interval = ConfigUtils.getAsInt(KEY_SUMMARY_INTERVAL);
+    return TimeUnit.SECONDS.toNanos(interval >= 0 ? interval : DEFAULT_SUMMARY_INTERVAL);
+  }
+
   /**
    * 開始ログを出力します.
    *
    * @param params 埋込文字列
    */
   public static void begin(String... params) {
-    STATISTICS_LOGGER.info(MessageUtils.getMessage(CoreMessageId.U0001I, params));
+    STATISTICS_LOGGER.info("{}", LazyMessage.of(CoreMessageId.U0001I, (Object[]) params));
   }
 
   /**
@@ -31,7 +81,7 @@ public class UsageStatisticsLogger {
    * @param params 埋込文字列
    */
   public static void complete(String... params) {
-    STATISTICS_LOGGER.info(MessageUtils.getMessage(CoreMessageId.U0002I, params));
+    STATISTICS_LOGGER.info("{}", LazyMessage.of(CoreMessageId.U0002I, (Object[]) params));
   }
 
   /**
@@ -40,7 +90,67 @@ public class UsageStatisticsLogger {
    * @param params 埋込文字列
    */
   public static void error(String... params) {
-    STATISTICS_LOGGER.error(MessageUtils.getMessage(CoreMessageId.U0003E, params));
+    STATISTICS_LOGGER.error("{}", LazyMessage.of(CoreMessageId.U0003E, (Object[]) params));
   }
 
+  /**
+   * 処理時間をヒストグラムに記録します.
+   * 集計ログの出力間隔を経過している場合は、集計ログを出力します.
+   *
+   * @param processName 処理名
+   * @param elapsedNanos 処理時間(ナノ秒)
+   * @param error エラーの場合はtrue
+   */
+  public static void record(String processName, long elapsedNanos, boolean error) {
+    TIMERS.computeIfAbsent(processName, key -> MetricsRegistry.timer("framework_usage_statistics_seconds",
+        "Usage statistics process time in seconds.", "process", key)).record(elapsedNanos, error);
+
+    long next = NEXT_SUMMARY_AT.get();
+    long now = System.nanoTime();
+    long interval = summaryIntervalNanos;
+    if (0 < interval && now - next >= 0 && NEXT_SUMMARY_AT.compareAndSet(next, now + interval)) {
+      summarize();
+    }
+  }
+
+  /**
+   * 処理名ごとの記録開始からの統計情報を取得します.
+   *
+   * @return 統計情報(Key:処理名、Value:{@link HistogramSnapshot})
+   */
+  public static Map<String, HistogramSnapshot> getSnapshots() {
+    Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+    TIMERS.forEach((processName, timer) -> snapshots.put(processName, timer.getHistogram().snapshot(processName)));
+    return snapshots;
+  }
+
+  /**
+   * 前回出力時からの処理名ごとの統計情報を集計ログとして出力します.
+   * 集計期間内に記録のない処理名は出力しません.
+   */
+  public static synchronized void summarize() {
+    long now = System.nanoTime();
+    double seconds = Math.max((now - lastSummaryAt) / (double) TimeUnit.SECONDS.toNanos(1L), 1d);
+    lastSummaryAt = now;
+
+    for (Map.Entry<String, Timer> entry : new TreeMap<>(TIMERS).entrySet()) {
+      HistogramSnapshot snapshot = entry.getValue().getHistogram().intervalSnapshot(entry.getKey());
+      if (snapshot.getCount() == 0L) {
+        continue;
+      }
+      STATISTICS_LOGGER.info("{}", LazyMessage.of(CoreMessageId.U0004I, snapshot.getName(), snapshot.getCount(), snapshot.getErrorCount(),
+          format(snapshot.getCount() / seconds), format(snapshot.getMean() / 1000d), format(snapshot.getP50() / 1000d),
+          format(snapshot.getP99() / 1000d), format(snapshot.getP999() / 1000d), format(snapshot.getMax() / 1000d)));
+    }
+  }
+
+  /**
+   * 数値を小数点以下3桁の文字列に変換します.
+   *
+   * @param value 数値
+   * @return 文字列
+   */
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.3f", value);
+  }
 }
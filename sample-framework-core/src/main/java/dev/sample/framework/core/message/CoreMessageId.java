@@ -36,6 +36,28 @@ public enum CoreMessageId implements MessageId {
   F0014D,
   /** {0} abnormal-end {1} {2}. */
   F0015E,
+  /** キーセットページングのカーソル[{0}]が不正です。. */
+  F0016E,
+  /** 検索条件[{0}]が不正です。. */
+  F0017E,
+  /** 条件が指定されていないため[{0}]の一括削除はできません。. */
+  F0018E,
+  /** 射影先クラス[{0}]にEntity[{1}]と一致するプロパティがありません。. */
+  F0019E,
+  /** 設定ファイルを再読み込みしました。変更されたキー={0}. */
+  F0020I,
+  /** 設定ファイルの再読み込みに失敗しました。現在の設定を継続して使用します。. */
+  F0021W,
+  /** 設定ファイルの監視を開始しました。{0}. */
+  F0022I,
+  /** 設定ファイルのスナップショット[{0}]を出力しました。. */
+  F0023I,
+  /** 読み込みキャッシュの対象のEntity[{0}]はSerializableを実装してください。. */
+  F0024E,
+  /** メッセージプロパティの再読み込みに失敗しました。現在のメッセージを継続して使用します。. */
+  F0025W,
+  /** ログレベルの設定[{0}]が不正です。「Logger名=ログレベル」の形式で指定してください。. */
+  F0026W,
 
   // F1000～ JSF
   /** 指定の制御仕様番号[{0}]は未定義です。. */
@@ -50,6 +72,10 @@ public enum CoreMessageId implements MessageId {
   F1005E,
   /** {0} Byteを越えるファイルはアップロードできません。({1} Byte). */
   F1006E,
+  /** 制御仕様番号[{0}]のルールが重複しています。({1}, {2}). */
+  F1007E,
+  /** ルール[{0}]は引数なし、戻り値がStringのpublicメソッドで定義してください。. */
+  F1008E,
 
   // U～ 利用統計ログ
   /** {0} start {1}. */
@@ -58,6 +84,8 @@ public enum CoreMessageId implements MessageId {
   U0002I,
   /** {0} abnormal-end {1}. */
   U0003E,
+  /** {0} summary count={1} error={2} throughput={3}/s mean={4}ms p50={5}ms p99={6}ms p999={7}ms max={8}ms. */
+  U0004I,
   ;
 
 }
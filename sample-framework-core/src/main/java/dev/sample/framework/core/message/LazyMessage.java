@@ -0,0 +1,66 @@
+package dev.sample.framework.core.message;
+
+import dev.sample.framework.core.util.MessageUtils;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * 遅延書式化メッセージ.
+ * {@link #toString()}の呼び出し時に初めてメッセージを書式化します.
+ * ロガーのパラメーターに指定することで、ログレベルが無効な場合の書式化を省略します.
+ * <pre>
+ * log.debug("{}", LazyMessage.of(CoreMessageId.F0013D, processName, viewName, dto));
+ * </pre>
+ */
+public final class LazyMessage {
+
+  /** メッセージID. */
+  private final MessageId messageId;
+
+  /** パラメーター. */
+  private final Object[] params;
+
+  /** 書式化済みメッセージ. */
+  private String message;
+
+  /**
+   * コンストラクター.
+   *
+   * @param messageId メッセージID
+   * @param params パラメーター
+   */
+  private LazyMessage(MessageId messageId, Object[] params) {
+    this.messageId = messageId;
+    this.params = params;
+  }
+
+  /**
+   * 遅延書式化メッセージを生成します.
+   * パラメーターは書式化時に文字列に変換します.{@link Supplier}の場合は書式化時に値を取得します.
+   *
+   * @param messageId メッセージID
+   * @param params パラメーター
+   * @return 遅延書式化メッセージ
+   */
+  public static LazyMessage of(@NonNull MessageId messageId, Object... params) {
+    return new LazyMessage(messageId, params);
+  }
+
+  /**
+   * メッセージを書式化します.
+   *
+   * @return メッセージ
+   */
+  @Override
+  public String toString() {
+    if (message == null) {
+      String[] stringParams = new String[params == null ? 0 : params.length];
+      for (int i = 0; i < stringParams.length; i++) {
+        Object param = params[i] instanceof Supplier ? ((Supplier<?>) params[i]).get() : params[i];
+        stringParams[i] = String.valueOf(param);
+      }
+      message = MessageUtils.getMessage(messageId, stringParams);
+    }
+    return message;
+  }
+}
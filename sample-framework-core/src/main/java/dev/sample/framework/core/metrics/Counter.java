@@ -0,0 +1,66 @@
+package dev.sample.framework.core.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * カウンター.
+ * 単調増加する値を保持します.
+ */
+public class Counter extends Metric {
+
+  /** 値. */
+  private final LongAdder value = new LongAdder();
+
+  /**
+   * コンストラクター.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル
+   */
+  Counter(String name, String help, Map<String, String> labels) {
+    super(name, help, labels);
+  }
+
+  /**
+   * 1加算します.
+   */
+  public void increment() {
+    value.increment();
+  }
+
+  /**
+   * 加算します.
+   *
+   * @param amount 加算値
+   */
+  public void add(long amount) {
+    value.add(amount);
+  }
+
+  /**
+   * 値を取得します.
+   *
+   * @return 値
+   */
+  public long get() {
+    return value.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getType() {
+    return "counter";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeSamples(StringBuilder out) {
+    writeSample(out, "", null, null, get());
+  }
+}
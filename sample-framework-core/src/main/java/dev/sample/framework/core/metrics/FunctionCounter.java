@@ -0,0 +1,52 @@
+package dev.sample.framework.core.metrics;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 関数カウンター.
+ * キャッシュの統計情報など、他のコンポーネントが保持する単調増加する値を取得処理から都度取得します.
+ */
+public class FunctionCounter extends Metric {
+
+  /** 値の取得処理. */
+  private final LongSupplier supplier;
+
+  /**
+   * コンストラクター.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル
+   * @param supplier 値の取得処理
+   */
+  FunctionCounter(String name, String help, Map<String, String> labels, LongSupplier supplier) {
+    super(name, help, labels);
+    this.supplier = supplier;
+  }
+
+  /**
+   * 値を取得します.
+   *
+   * @return 値
+   */
+  public long get() {
+    return supplier.getAsLong();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getType() {
+    return "counter";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeSamples(StringBuilder out) {
+    writeSample(out, "", null, null, get());
+  }
+}
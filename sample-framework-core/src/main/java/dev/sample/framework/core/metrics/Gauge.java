@@ -0,0 +1,52 @@
+package dev.sample.framework.core.metrics;
+
+import java.util.Map;
+import java.util.function.DoubleSupplier;
+
+/**
+ * ゲージ.
+ * 取得時点の値を取得処理から都度取得します.
+ */
+public class Gauge extends Metric {
+
+  /** 値の取得処理. */
+  private final DoubleSupplier supplier;
+
+  /**
+   * コンストラクター.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル
+   * @param supplier 値の取得処理
+   */
+  Gauge(String name, String help, Map<String, String> labels, DoubleSupplier supplier) {
+    super(name, help, labels);
+    this.supplier = supplier;
+  }
+
+  /**
+   * 値を取得します.
+   *
+   * @return 値
+   */
+  public double get() {
+    return supplier.getAsDouble();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getType() {
+    return "gauge";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeSamples(StringBuilder out) {
+    writeSample(out, "", null, null, get());
+  }
+}
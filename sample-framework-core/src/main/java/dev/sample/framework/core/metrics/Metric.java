@@ -0,0 +1,106 @@
+package dev.sample.framework.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * メトリクス基底クラス.
+ */
+@Getter
+public abstract class Metric {
+
+  /** メトリクス名. */
+  private final String name;
+
+  /** 説明. */
+  private final String help;
+
+  /** ラベル. */
+  private final Map<String, String> labels;
+
+  /**
+   * コンストラクター.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル
+   */
+  protected Metric(String name, String help, Map<String, String> labels) {
+    this.name = name;
+    this.help = help;
+    this.labels = Collections.unmodifiableMap(labels);
+  }
+
+  /**
+   * メトリクスの種類(Prometheusのメトリクスタイプ)を取得します.
+   *
+   * @return メトリクスの種類
+   */
+  public abstract String getType();
+
+  /**
+   * 現在値をPrometheusテキスト形式で出力します.
+   *
+   * @param out 出力先
+   */
+  protected abstract void writeSamples(StringBuilder out);
+
+  /**
+   * サンプル行をPrometheusテキスト形式で出力します.
+   *
+   * @param out 出力先
+   * @param suffix メトリクス名の接尾辞
+   * @param extraLabel 追加のラベル名(不要な場合はnull)
+   * @param extraValue 追加のラベル値
+   * @param value 値
+   */
+  protected void writeSample(StringBuilder out, String suffix, String extraLabel, String extraValue, double value) {
+    out.append(name).append(suffix);
+    if (!labels.isEmpty() || extraLabel != null) {
+      out.append('{');
+      boolean first = true;
+      for (Map.Entry<String, String> label : labels.entrySet()) {
+        first = appendLabel(out, first, label.getKey(), label.getValue());
+      }
+      if (extraLabel != null) {
+        appendLabel(out, first, extraLabel, extraValue);
+      }
+      out.append('}');
+    }
+    out.append(' ');
+    if (value == Math.rint(value) && !Double.isInfinite(value)) {
+      out.append((long) value);
+    } else {
+      out.append(value);
+    }
+    out.append('\n');
+  }
+
+  /**
+   * ラベルを出力します.
+   *
+   * @param out 出力先
+   * @param first 先頭のラベルの場合はtrue
+   * @param key ラベル名
+   * @param value ラベル値
+   * @return false
+   */
+  private static boolean appendLabel(StringBuilder out, boolean first, String key, String value) {
+    if (!first) {
+      out.append(',');
+    }
+    out.append(key).append("=\"");
+    for (char c : String.valueOf(value).toCharArray()) {
+      if (c == '\\' || c == '"') {
+        out.append('\\').append(c);
+      } else if (c == '\n') {
+        out.append("\\n");
+      } else {
+        out.append(c);
+      }
+    }
+    out.append('"');
+    return false;
+  }
+}
@@ -0,0 +1,186 @@
+package dev.sample.framework.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import lombok.experimental.UtilityClass;
+
+/**
+ * <PRE>
+ * メトリクスレジストリ.
+ * フレームワークの各コンポーネントが登録したメトリクスを保持し、Prometheusテキスト形式で出力します.
+ * メトリクスはメトリクス名とラベルの組み合わせごとに1つ生成されます.
+ * ラベルは「ラベル名, ラベル値」の順に指定します.
+ * </PRE>
+ * <pre>
+ * MetricsRegistry.timer("framework_dao_search_seconds", "DAO検索の処理時間", "entity", "SampleEntity").record(elapsed);
+ * </pre>
+ */
+@UtilityClass
+public class MetricsRegistry {
+
+  /** メトリクス(Key:メトリクス名+ラベル). */
+  private static final ConcurrentMap<String, Metric> METRICS = new ConcurrentHashMap<>();
+
+  /**
+   * カウンターを取得します.
+   * 登録されていない場合は生成して登録します.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @return {@link Counter} カウンター
+   */
+  public static Counter counter(String name, String help, String... labels) {
+    return register(Counter.class, name, labels, key -> new Counter(name, help, toLabelMap(labels)));
+  }
+
+  /**
+   * タイマーを取得します.
+   * 登録されていない場合は生成して登録します.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @return {@link Timer} タイマー
+   */
+  public static Timer timer(String name, String help, String... labels) {
+    return register(Timer.class, name, labels, key -> new Timer(name, help, toLabelMap(labels)));
+  }
+
+  /**
+   * ゲージを登録します.
+   * 同一のメトリクス名、ラベルのゲージが登録済みの場合は置き換えます.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param supplier 値の取得処理
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @return {@link Gauge} ゲージ
+   */
+  public static Gauge gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+    Gauge gauge = new Gauge(name, help, toLabelMap(labels), supplier);
+    METRICS.put(toKey(name, labels), gauge);
+    return gauge;
+  }
+
+  /**
+   * 関数カウンターを登録します.
+   * 他のコンポーネントが保持する単調増加する値(キャッシュのヒット数など)をカウンターとして出力する場合に使用します.
+   * 同一のメトリクス名、ラベルの関数カウンターが登録済みの場合は置き換えます.
+   *
+   * @param name メトリクス名(接尾辞は_total)
+   * @param help 説明
+   * @param supplier 値の取得処理
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @return {@link FunctionCounter} 関数カウンター
+   */
+  public static FunctionCounter functionCounter(String name, String help, LongSupplier supplier, String... labels) {
+    FunctionCounter counter = new FunctionCounter(name, help, toLabelMap(labels), supplier);
+    METRICS.put(toKey(name, labels), counter);
+    return counter;
+  }
+
+  /**
+   * メトリクスの登録を解除します.
+   *
+   * @param name メトリクス名
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   */
+  public static void unregister(String name, String... labels) {
+    METRICS.remove(toKey(name, labels));
+  }
+
+  /**
+   * 登録済みのメトリクスを取得します.
+   *
+   * @return 登録済みのメトリクス
+   */
+  public static Collection<Metric> getMetrics() {
+    return Collections.unmodifiableCollection(METRICS.values());
+  }
+
+  /**
+   * 登録済みのメトリクスの現在値をPrometheusテキスト形式で取得します.
+   *
+   * @return Prometheusテキスト形式の文字列
+   */
+  public static String scrape() {
+    List<Metric> metrics = new ArrayList<>(METRICS.values());
+    metrics.sort(Comparator.comparing(Metric::getName));
+
+    StringBuilder out = new StringBuilder();
+    String currentName = null;
+    for (Metric metric : metrics) {
+      if (!metric.getName().equals(currentName)) {
+        currentName = metric.getName();
+        out.append("# HELP ").append(currentName).append(' ').append(metric.getHelp()).append('\n');
+        out.append("# TYPE ").append(currentName).append(' ').append(metric.getType()).append('\n');
+      }
+      metric.writeSamples(out);
+    }
+    return out.toString();
+  }
+
+  /**
+   * メトリクスを登録します.
+   *
+   * @param <M> メトリクスの型
+   * @param type メトリクスの型
+   * @param name メトリクス名
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @param factory メトリクスの生成処理
+   * @return メトリクス
+   */
+  private static <M extends Metric> M register(Class<M> type, String name, String[] labels, Function<String, Metric> factory) {
+    Metric metric = METRICS.computeIfAbsent(toKey(name, labels), factory);
+    if (!type.isInstance(metric)) {
+      throw new IllegalArgumentException("Metric [" + name + "] is already registered as " + metric.getType());
+    }
+    return type.cast(metric);
+  }
+
+  /**
+   * メトリクス名とラベルからキーを生成します.
+   *
+   * @param name メトリクス名
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @return キー
+   */
+  private static String toKey(String name, String... labels) {
+    if (labels.length == 0) {
+      return name;
+    }
+    StringBuilder key = new StringBuilder(name);
+    for (String label : labels) {
+      key.append('\u0000').append(label);
+    }
+    return key.toString();
+  }
+
+  /**
+   * ラベルをMapに変換します.
+   *
+   * @param labels ラベル(ラベル名, ラベル値, ...)
+   * @return ラベル(Key:ラベル名、Value:ラベル値)
+   */
+  private static Map<String, String> toLabelMap(String... labels) {
+    if (labels.length % 2 != 0) {
+      throw new IllegalArgumentException("Labels must be specified as name-value pairs.");
+    }
+    Map<String, String> labelMap = new LinkedHashMap<>();
+    for (int i = 0; i < labels.length; i += 2) {
+      labelMap.put(labels[i], labels[i + 1]);
+    }
+    return labelMap;
+  }
+}
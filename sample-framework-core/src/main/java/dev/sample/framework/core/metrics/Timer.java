@@ -0,0 +1,84 @@
+package dev.sample.framework.core.metrics;
+
+import dev.sample.framework.core.logger.HistogramSnapshot;
+import dev.sample.framework.core.logger.LatencyHistogram;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * タイマー.
+ * 処理時間を{@link LatencyHistogram}に記録し、Prometheusのsummaryとして出力します(単位は秒).
+ * 分位数はヒストグラムから算出し、合計(_sum)は記録した処理時間の合計をそのまま出力します.
+ */
+public class Timer extends Metric {
+
+  /** マイクロ秒から秒への変換係数. */
+  private static final double MICROS_PER_SECOND = 1_000_000d;
+
+  /** ナノ秒から秒への変換係数. */
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  /** 処理時間のヒストグラム. */
+  @Getter
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  /** 処理時間の合計(ナノ秒). */
+  private final LongAdder totalNanos = new LongAdder();
+
+  /** 記録回数. */
+  private final LongAdder count = new LongAdder();
+
+  /**
+   * コンストラクター.
+   *
+   * @param name メトリクス名
+   * @param help 説明
+   * @param labels ラベル
+   */
+  Timer(String name, String help, Map<String, String> labels) {
+    super(name, help, labels);
+  }
+
+  /**
+   * 処理時間を記録します.
+   *
+   * @param elapsedNanos 処理時間(ナノ秒)
+   */
+  public void record(long elapsedNanos) {
+    record(elapsedNanos, false);
+  }
+
+  /**
+   * 処理時間を記録します.
+   *
+   * @param elapsedNanos 処理時間(ナノ秒)
+   * @param error エラーの場合はtrue
+   */
+  public void record(long elapsedNanos, boolean error) {
+    histogram.record(elapsedNanos, error);
+    totalNanos.add(elapsedNanos);
+    count.increment();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getType() {
+    return "summary";
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void writeSamples(StringBuilder out) {
+    HistogramSnapshot snapshot = histogram.snapshot(getName());
+    writeSample(out, "", "quantile", "0.5", snapshot.getP50() / MICROS_PER_SECOND);
+    writeSample(out, "", "quantile", "0.99", snapshot.getP99() / MICROS_PER_SECOND);
+    writeSample(out, "", "quantile", "0.999", snapshot.getP999() / MICROS_PER_SECOND);
+    writeSample(out, "_sum", null, null, totalNanos.sum() / NANOS_PER_SECOND);
+    writeSample(out, "_count", null, null, count.sum());
+  }
+}
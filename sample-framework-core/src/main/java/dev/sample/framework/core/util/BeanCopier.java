@@ -0,0 +1,227 @@
+package dev.sample.framework.core.util;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.Value;
+import org.apache.commons.beanutils.BeanUtils;
+import org.apache.commons.beanutils.BeanUtilsBean;
+import org.apache.commons.beanutils.ConvertUtils;
+import org.apache.commons.beanutils.Converter;
+import org.apache.commons.beanutils.DynaBean;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.beanutils.converters.AbstractConverter;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * <PRE>
+ * Beanのプロパティコピー定義.
+ * コピー元、コピー先のクラスの組み合わせごとに、同名のプロパティのgetter、setterを{@link MethodHandle}で解決してキャッシュします.
+ * 値の変換が不要なプロパティは{@link MethodHandle}で直接コピーし、変換が必要な場合のみ{@link BeanUtilsBean#copyProperty(Object, String, Object)}を使用します.
+ * 値の変換要否はcommons-beanutilsの{@link Converter}と同じ規則(同じ型の場合は変換しない)で判定するため、コピー結果は{@link BeanUtils#copyProperties(Object, Object)}と同じです.
+ * ※{@link Converter}の登録状況はコピー定義の生成時に判定します
+ * </PRE>
+ */
+final class BeanCopier {
+
+  /** コピー定義のキャッシュ. */
+  private static final ConcurrentMap<CopierKey, BeanCopier> CACHE = new ConcurrentHashMap<>();
+
+  /** プロパティ名：クラス. */
+  private static final String PROPERTY_CLASS = "class";
+
+  /** プロパティのコピー定義のリスト. nullの場合は{@link BeanUtils#copyProperties(Object, Object)}に委譲します. */
+  private final List<PropertyCopier> properties;
+
+  /**
+   * コンストラクター.
+   *
+   * @param origType コピー元の型
+   * @param destType コピー先の型
+   */
+  private BeanCopier(Class<?> origType, Class<?> destType) {
+    this.properties = resolve(origType, destType);
+  }
+
+  /**
+   * コピー定義を取得します.
+   * コピー元、コピー先のクラスの組み合わせごとに初回のみ解析し、以降はキャッシュを返却します.
+   *
+   * @param origType コピー元の型
+   * @param destType コピー先の型
+   * @return コピー定義
+   */
+  static BeanCopier of(Class<?> origType, Class<?> destType) {
+    return CACHE.computeIfAbsent(new CopierKey(origType, destType), key -> new BeanCopier(origType, destType));
+  }
+
+  /**
+   * コピー元のBeanからコピー先のBeanにプロパティ値をコピー(shallow copy)します.
+   *
+   * @param dest コピー先のBean
+   * @param orig コピー元のBean
+   * @throws IllegalAccessException プロパティにアクセスできない場合
+   * @throws InvocationTargetException getter、setterで例外が発生した場合
+   */
+  void copy(Object dest, Object orig) throws IllegalAccessException, InvocationTargetException {
+    if (properties == null) {
+      BeanUtils.copyProperties(dest, orig);
+      return;
+    }
+
+    for (PropertyCopier property : properties) {
+      property.copy(dest, orig);
+    }
+  }
+
+  /**
+   * プロパティのコピー定義を解決します.
+   * DynaBean、Map、publicでないクラスなど{@link MethodHandle}で扱えない場合はnullを返却します.
+   *
+   * @param origType コピー元の型
+   * @param destType コピー先の型
+   * @return プロパティのコピー定義のリスト
+   */
+  private static List<PropertyCopier> resolve(Class<?> origType, Class<?> destType) {
+    if (DynaBean.class.isAssignableFrom(origType) || DynaBean.class.isAssignableFrom(destType) || Map.class.isAssignableFrom(origType)) {
+      return null;
+    }
+
+    Map<String, PropertyDescriptor> destDescriptors = new HashMap<>();
+    for (PropertyDescriptor pd : PropertyUtils.getPropertyDescriptors(destType)) {
+      if (pd.getWriteMethod() != null) {
+        destDescriptors.put(pd.getName(), pd);
+      }
+    }
+
+    List<PropertyCopier> propertyCopiers = new ArrayList<>();
+    try {
+      for (PropertyDescriptor origPd : PropertyUtils.getPropertyDescriptors(origType)) {
+        PropertyDescriptor destPd = destDescriptors.get(origPd.getName());
+        if (PROPERTY_CLASS.equals(origPd.getName()) || origPd.getReadMethod() == null || destPd == null) {
+          continue;
+        }
+        propertyCopiers.add(new PropertyCopier(origPd.getName(),
+            MethodHandles.publicLookup().unreflect(origPd.getReadMethod()).asType(MethodType.methodType(Object.class, Object.class)),
+            MethodHandles.publicLookup().unreflect(destPd.getWriteMethod())
+                .asType(MethodType.methodType(void.class, Object.class, Object.class)),
+            destPd.getPropertyType()));
+      }
+
+    } catch (IllegalAccessException e) {
+      return null;
+
+    }
+    return Collections.unmodifiableList(propertyCopiers);
+  }
+
+  /**
+   * プロパティのコピー定義.
+   */
+  private static final class PropertyCopier {
+
+    /** プロパティ名. */
+    private final String name;
+
+    /** コピー元のgetter. */
+    private final MethodHandle getter;
+
+    /** コピー先のsetter. */
+    private final MethodHandle setter;
+
+    /** コピー先のプロパティの型(プリミティブ型の場合はラッパー型). */
+    private final Class<?> type;
+
+    /** コピー先のプロパティの型がプリミティブ型の場合はtrue. */
+    private final boolean primitive;
+
+    /** コピー先のプロパティの型の{@link Converter}. 登録されていない場合はnull. */
+    private final Converter converter;
+
+    /**
+     * コンストラクター.
+     *
+     * @param name プロパティ名
+     * @param getter コピー元のgetter
+     * @param setter コピー先のsetter
+     * @param type コピー先のプロパティの型
+     */
+    PropertyCopier(String name, MethodHandle getter, MethodHandle setter, Class<?> type) {
+      this.name = name;
+      this.getter = getter;
+      this.setter = setter;
+      this.type = ClassUtils.primitiveToWrapper(type);
+      this.primitive = type.isPrimitive();
+      this.converter = ConvertUtils.lookup(type);
+    }
+
+    /**
+     * プロパティ値をコピーします.
+     *
+     * @param dest コピー先のBean
+     * @param orig コピー元のBean
+     * @throws IllegalAccessException プロパティにアクセスできない場合
+     * @throws InvocationTargetException getter、setterで例外が発生した場合
+     */
+    void copy(Object dest, Object orig) throws IllegalAccessException, InvocationTargetException {
+      Object value;
+      try {
+        value = getter.invokeExact(orig);
+      } catch (Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+
+      if (!isAssignable(value)) {
+        BeanUtilsBean.getInstance().copyProperty(dest, name, value);
+        return;
+      }
+
+      try {
+        setter.invokeExact(dest, value);
+      } catch (Throwable e) {
+        throw new InvocationTargetException(e);
+      }
+    }
+
+    /**
+     * 値を変換せずにコピーできるか判定します.
+     * {@link Converter}が登録されていない場合は型が一致すればそのまま、
+     * 登録されている場合は{@link AbstractConverter}と同様にクラスが同一であればそのままコピーします.
+     *
+     * @param value 値
+     * @return 値を変換せずにコピーできる場合はtrue
+     */
+    private boolean isAssignable(Object value) {
+      if (value == null) {
+        return !primitive;
+      }
+      if (converter == null) {
+        return type.isInstance(value);
+      }
+      return converter instanceof AbstractConverter && type == value.getClass();
+    }
+  }
+
+  /**
+   * コピー定義のキャッシュのキー.
+   */
+  @Value
+  private static class CopierKey {
+
+    /** コピー元の型. */
+    private final Class<?> origType;
+
+    /** コピー先の型. */
+    private final Class<?> destType;
+
+  }
+}
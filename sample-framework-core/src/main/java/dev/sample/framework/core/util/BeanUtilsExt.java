@@ -5,13 +5,15 @@ import dev.sample.framework.core.exception.dto.ErrorMessage;
 import dev.sample.framework.core.message.CoreMessageId;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import lombok.experimental.UtilityClass;
-import org.apache.commons.beanutils.BeanUtils;
-import org.apache.commons.lang3.SerializationUtils;
 
 /**
  * Beanユーティリティー.
  * ※Apache Commonsとクラス名が重複するため別名
+ * プロパティのコピーは、コピー元・先のクラスの組み合わせごとに解析したコピー定義をキャッシュして使用します.
  */
 @UtilityClass
 public class BeanUtilsExt {
@@ -43,21 +45,53 @@ public class BeanUtilsExt {
    */
   public static void copyProperties(final Object dest, final Object orig) {
     try {
-      BeanUtils.copyProperties(dest, orig);
+      BeanCopier.of(orig.getClass(), dest.getClass()).copy(dest, orig);
     } catch (IllegalAccessException | InvocationTargetException e) {
       throw new SystemException(e, new ErrorMessage(CoreMessageId.F0001E, dest.getClass().getSimpleName(), orig.getClass().getSimpleName()));
     }
   }
 
+  /**
+   * プロパティ名が同じ場合はすべて、コピー元のBeanのリストからコピー先のBeanのリストにプロパティ値をコピー(shallow copy)します.
+   * コピー元の要素のクラスが前の要素と同じ場合は、同じコピー定義を使用します.
+   *
+   * @param <T> 引数無しのデフォルトコンストラクターを持つ任意のクラス
+   * @param type コピー先のBeanクラス
+   * @param origList コピー元のBeanのリスト
+   * @return コピー先のBeanインスタンスのリスト
+   */
+  public static <T> List<T> copyPropertiesList(Class<T> type, final Collection<?> origList) {
+    List<T> destList = new ArrayList<>(origList.size());
+    BeanCopier copier = null;
+    Class<?> origType = null;
+    for (Object orig : origList) {
+      if (orig.getClass() != origType) {
+        origType = orig.getClass();
+        copier = BeanCopier.of(origType, type);
+      }
+      try {
+        T dest = type.getDeclaredConstructor().newInstance();
+        copier.copy(dest, orig);
+        destList.add(dest);
+      } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
+          | SecurityException e) {
+        throw new SystemException(e, new ErrorMessage(CoreMessageId.F0001E, type.getSimpleName(), origType.getSimpleName()));
+      }
+    }
+    return destList;
+  }
+
   /**
    * コピー元のBeanからプロパティ値をコピー(deep copy)した新しいBeanを返します.
+   * 不変な値(String、ラッパー型、BigDecimal、java.time、enumなど)はコピーせずに共有します.
+   * コピー方法が不明な型はシリアライズによりコピーします.
    *
    * @param <T> Serializableをimplementsした任意のクラス
    * @param orig コピー元のBean
    * @return コピーしたBeanインスタンス
    */
   public static <T extends Serializable> T deepCopy(final T orig) {
-    return SerializationUtils.clone(orig);
+    return DeepCopier.copy(orig);
   }
 
 }
@@ -0,0 +1,422 @@
+package dev.sample.framework.core.util;
+
+import dev.sample.framework.core.exception.SystemException;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+/**
+ * <PRE>
+ * Beanの構造的なdeep copy.
+ * クラスごとにコピー方法(コピー定義)を1回だけ解析してキャッシュし、Javaのシリアライズを使用せずにコピーします.
+ *  - 不変型(String、ラッパー型、BigDecimal、java.time、enumなど)：コピーせずに共有
+ *  - Date(java.sql.Timestamp等を含む)：clone
+ *  - 配列、主要なCollection、Map：同じ型で生成し、要素をdeep copy
+ *  - Serializableなクラス(引数無しのコンストラクターを持ち、独自のシリアライズ処理を持たないもの)：フィールドをdeep copy
+ *  - 上記以外：シリアライズによるコピー(従来の方法)
+ * 循環参照、同一インスタンスへの複数の参照はコピー後も同じ構造を保持します.
+ * ※transientフィールドはコピーしません(コンストラクターの初期値となります)
+ * </PRE>
+ */
+final class DeepCopier {
+
+  /** 不変型. */
+  private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+      String.class, Boolean.class, Byte.class, Character.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      BigDecimal.class, BigInteger.class, UUID.class, Locale.class, Currency.class, URI.class, Class.class));
+
+  /** 不変型のパッケージ. */
+  private static final String IMMUTABLE_PACKAGE = "java.time.";
+
+  /** 要素をコピーするCollectionの型とファクトリー. */
+  private static final Map<Class<?>, Function<Object, Collection<Object>>> COLLECTION_FACTORIES = new HashMap<>();
+
+  /** 要素をコピーするMapの型とファクトリー. */
+  private static final Map<Class<?>, Function<Object, Map<Object, Object>>> MAP_FACTORIES = new HashMap<>();
+
+  /** コピー定義のキャッシュ. */
+  private static final ConcurrentMap<Class<?>, CopyPlan> PLANS = new ConcurrentHashMap<>();
+
+  /** 共有(コピーしない). */
+  private static final CopyPlan SHARE = (orig, copier) -> orig;
+
+  /** シリアライズによるコピー. */
+  private static final CopyPlan SERIALIZE = (orig, copier) -> copier.register(orig, SerializationUtils.clone((Serializable) orig));
+
+  /** シリアライズできない型(従来のシリアライズによるコピーと同じ例外とする). */
+  private static final CopyPlan NOT_SERIALIZABLE = (orig, copier) -> {
+    throw new SerializationException(new NotSerializableException(orig.getClass().getName()));
+  };
+
+  /** Dateのコピー. */
+  private static final CopyPlan DATE = (orig, copier) -> copier.register(orig, ((Date) orig).clone());
+
+  /** EnumSetのコピー(要素は不変のため共有). */
+  private static final CopyPlan ENUM_SET = (orig, copier) -> copier.register(orig, ((EnumSet<?>) orig).clone());
+
+  /** 配列のコピー. */
+  private static final CopyPlan ARRAY = DeepCopier::copyArray;
+
+  static {
+    COLLECTION_FACTORIES.put(ArrayList.class, orig -> new ArrayList<>(((Collection<?>) orig).size()));
+    COLLECTION_FACTORIES.put(LinkedList.class, orig -> new LinkedList<>());
+    COLLECTION_FACTORIES.put(ArrayDeque.class, orig -> new ArrayDeque<>(((Collection<?>) orig).size()));
+    COLLECTION_FACTORIES.put(HashSet.class, orig -> new HashSet<>(((Collection<?>) orig).size() * 4 / 3 + 1));
+    COLLECTION_FACTORIES.put(LinkedHashSet.class, orig -> new LinkedHashSet<>(((Collection<?>) orig).size() * 4 / 3 + 1));
+    COLLECTION_FACTORIES.put(TreeSet.class, orig -> new TreeSet<>(comparator(((SortedSet<?>) orig).comparator())));
+
+    MAP_FACTORIES.put(HashMap.class, orig -> new HashMap<>(((Map<?, ?>) orig).size() * 4 / 3 + 1));
+    MAP_FACTORIES.put(LinkedHashMap.class, orig -> new LinkedHashMap<>(((Map<?, ?>) orig).size() * 4 / 3 + 1));
+    MAP_FACTORIES.put(TreeMap.class, orig -> new TreeMap<>(comparator(((SortedMap<?, ?>) orig).comparator())));
+    MAP_FACTORIES.put(ConcurrentHashMap.class, orig -> new ConcurrentHashMap<>(((Map<?, ?>) orig).size() * 4 / 3 + 1));
+  }
+
+  /** コピー済みのインスタンス(Key:コピー元、Value:コピー先). */
+  private final Map<Object, Object> copied = new IdentityHashMap<>();
+
+  /**
+   * コンストラクター.
+   */
+  private DeepCopier() {
+  }
+
+  /**
+   * deep copyします.
+   *
+   * @param <T> コピー対象の型
+   * @param orig コピー元
+   * @return コピー先
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T copy(T orig) {
+    return (T) new DeepCopier().copyValue(orig);
+  }
+
+  /**
+   * 値をdeep copyします.
+   *
+   * @param orig コピー元
+   * @return コピー先
+   */
+  private Object copyValue(Object orig) {
+    if (orig == null) {
+      return null;
+    }
+    Object copy = copied.get(orig);
+    if (copy != null) {
+      return copy;
+    }
+    return PLANS.computeIfAbsent(orig.getClass(), DeepCopier::createPlan).copy(orig, this);
+  }
+
+  /**
+   * コピー済みのインスタンスとして登録します.
+   *
+   * @param orig コピー元
+   * @param copy コピー先
+   * @return コピー先
+   */
+  private Object register(Object orig, Object copy) {
+    copied.put(orig, copy);
+    return copy;
+  }
+
+  /**
+   * クラスを解析してコピー定義を生成します.
+   *
+   * @param type クラス
+   * @return コピー定義
+   */
+  private static CopyPlan createPlan(Class<?> type) {
+    if (isImmutable(type)) {
+      return SHARE;
+    }
+    if (Date.class.isAssignableFrom(type)) {
+      return DATE;
+    }
+    if (type.isArray()) {
+      return ARRAY;
+    }
+    if (EnumSet.class.isAssignableFrom(type)) {
+      return ENUM_SET;
+    }
+    if (COLLECTION_FACTORIES.containsKey(type)) {
+      return new CollectionPlan(COLLECTION_FACTORIES.get(type));
+    }
+    if (MAP_FACTORIES.containsKey(type)) {
+      return new MapPlan(MAP_FACTORIES.get(type));
+    }
+    if (!Serializable.class.isAssignableFrom(type)) {
+      return NOT_SERIALIZABLE;
+    }
+    BeanPlan beanPlan = BeanPlan.create(type);
+    return beanPlan == null ? SERIALIZE : beanPlan;
+  }
+
+  /**
+   * 不変型か判定します.
+   *
+   * @param type クラス
+   * @return 不変型の場合はtrue
+   */
+  private static boolean isImmutable(Class<?> type) {
+    return type.isEnum() || (type.getSuperclass() != null && type.getSuperclass().isEnum()) || IMMUTABLE_TYPES.contains(type)
+        || type.getName().startsWith(IMMUTABLE_PACKAGE);
+  }
+
+  /**
+   * ソート済みのCollection、Mapの{@link Comparator}を取得します.
+   *
+   * @param comparator {@link Comparator}
+   * @return {@link Comparator}(自然順序の場合はnull)
+   */
+  @SuppressWarnings("unchecked")
+  private static Comparator<Object> comparator(Comparator<?> comparator) {
+    return (Comparator<Object>) comparator;
+  }
+
+  /**
+   * 配列をdeep copyします.
+   *
+   * @param orig コピー元
+   * @param copier コピー処理
+   * @return コピー先
+   */
+  private static Object copyArray(Object orig, DeepCopier copier) {
+    int length = Array.getLength(orig);
+    Class<?> componentType = orig.getClass().getComponentType();
+    Object copy = copier.register(orig, Array.newInstance(componentType, length));
+    if (componentType.isPrimitive()) {
+      System.arraycopy(orig, 0, copy, 0, length);
+      return copy;
+    }
+
+    Object[] origArray = (Object[]) orig;
+    Object[] copyArray = (Object[]) copy;
+    for (int i = 0; i < length; i++) {
+      copyArray[i] = copier.copyValue(origArray[i]);
+    }
+    return copy;
+  }
+
+  /**
+   * コピー定義.
+   */
+  @FunctionalInterface
+  private interface CopyPlan {
+
+    /**
+     * deep copyします.
+     *
+     * @param orig コピー元
+     * @param copier コピー処理
+     * @return コピー先
+     */
+    Object copy(Object orig, DeepCopier copier);
+  }
+
+  /**
+   * Collectionのコピー定義.
+   */
+  private static final class CollectionPlan implements CopyPlan {
+
+    /** Collectionのファクトリー. */
+    private final Function<Object, Collection<Object>> factory;
+
+    /**
+     * コンストラクター.
+     *
+     * @param factory Collectionのファクトリー
+     */
+    CollectionPlan(Function<Object, Collection<Object>> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object copy(Object orig, DeepCopier copier) {
+      Collection<Object> copy = factory.apply(orig);
+      copier.register(orig, copy);
+      for (Object element : (Collection<?>) orig) {
+        copy.add(copier.copyValue(element));
+      }
+      return copy;
+    }
+  }
+
+  /**
+   * Mapのコピー定義.
+   */
+  private static final class MapPlan implements CopyPlan {
+
+    /** Mapのファクトリー. */
+    private final Function<Object, Map<Object, Object>> factory;
+
+    /**
+     * コンストラクター.
+     *
+     * @param factory Mapのファクトリー
+     */
+    MapPlan(Function<Object, Map<Object, Object>> factory) {
+      this.factory = factory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object copy(Object orig, DeepCopier copier) {
+      Map<Object, Object> copy = factory.apply(orig);
+      copier.register(orig, copy);
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) orig).entrySet()) {
+        copy.put(copier.copyValue(entry.getKey()), copier.copyValue(entry.getValue()));
+      }
+      return copy;
+    }
+  }
+
+  /**
+   * Beanのコピー定義.
+   * 引数無しのコンストラクターでインスタンスを生成し、フィールドをdeep copyします.
+   */
+  private static final class BeanPlan implements CopyPlan {
+
+    /** 独自のシリアライズ処理のメソッド名. */
+    private static final List<String> SERIALIZATION_METHODS = Collections.unmodifiableList(Arrays.asList(
+        "writeObject", "readObject", "readObjectNoData", "writeReplace", "readResolve"));
+
+    /** コンストラクター. */
+    private final MethodHandle constructor;
+
+    /** フィールドのgetterのリスト. */
+    private final List<MethodHandle> getters;
+
+    /** フィールドのsetterのリスト({@link #getters}の順). */
+    private final List<MethodHandle> setters;
+
+    /**
+     * コンストラクター.
+     *
+     * @param constructor コンストラクター
+     * @param getters フィールドのgetterのリスト
+     * @param setters フィールドのsetterのリスト
+     */
+    private BeanPlan(MethodHandle constructor, List<MethodHandle> getters, List<MethodHandle> setters) {
+      this.constructor = constructor;
+      this.getters = getters;
+      this.setters = setters;
+    }
+
+    /**
+     * クラスを解析してBeanのコピー定義を生成します.
+     * JDKのクラス(継承したクラスを含む)、引数無しのコンストラクターを持たないクラス、独自のシリアライズ処理を持つクラスの場合はnullを返却します.
+     *
+     * @param type クラス
+     * @return Beanのコピー定義
+     */
+    static BeanPlan create(Class<?> type) {
+      for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+        if (current.getName().startsWith("java.") || current.getName().startsWith("javax.") || hasSerializationMethod(current)) {
+          return null;
+        }
+      }
+
+      try {
+        Constructor<?> declaredConstructor = type.getDeclaredConstructor();
+        declaredConstructor.setAccessible(true);
+        MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(declaredConstructor)
+            .asType(MethodType.methodType(Object.class));
+
+        List<MethodHandle> getters = new ArrayList<>();
+        List<MethodHandle> setters = new ArrayList<>();
+        for (Field field : FieldUtils.getAllFieldsList(type)) {
+          if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+            continue;
+          }
+          field.setAccessible(true);
+          getters.add(MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class)));
+          setters.add(MethodHandles.lookup().unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class)));
+        }
+        return new BeanPlan(constructor, Collections.unmodifiableList(getters), Collections.unmodifiableList(setters));
+
+      } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+        return null;
+
+      }
+    }
+
+    /**
+     * クラスに独自のシリアライズ処理が存在するか判定します.
+     *
+     * @param type クラス
+     * @return 独自のシリアライズ処理が存在する場合はtrue
+     */
+    private static boolean hasSerializationMethod(Class<?> type) {
+      return Arrays.stream(type.getDeclaredMethods()).anyMatch(method -> SERIALIZATION_METHODS.contains(method.getName()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object copy(Object orig, DeepCopier copier) {
+      try {
+        Object copy = constructor.invokeExact();
+        copier.register(orig, copy);
+        for (int i = 0; i < getters.size(); i++) {
+          Object value = getters.get(i).invokeExact(orig);
+          setters.get(i).invokeExact(copy, copier.copyValue(value));
+        }
+        return copy;
+
+      } catch (RuntimeException e) {
+        throw e;
+
+      } catch (Throwable e) {
+        throw new SystemException(e);
+
+      }
+    }
+  }
+}
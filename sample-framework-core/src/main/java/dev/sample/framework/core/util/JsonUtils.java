@@ -36,6 +36,23 @@ public class JsonUtils {
     }
   }
 
+  /**
+   * 値を指定の型に変換します.
+   * JSON文字列から読み込んだ値({@code String}、{@code Integer}など)をBeanのプロパティの型に合わせる場合に使用します.
+   *
+   * @param <T> 変換後の型
+   * @param value 値
+   * @param valueType 変換後の型
+   * @return 変換後の値
+   */
+  public static <T> T convertValue(Object value, Class<T> valueType) {
+    try {
+      return objectMapper.convertValue(value, valueType);
+    } catch (IllegalArgumentException e) {
+      throw new SystemException(e);
+    }
+  }
+
   /**
    * BeanをJSON文字列に出力します.
    *
@@ -1,17 +1,28 @@
 package dev.sample.framework.core.util;
 
 import dev.sample.common.constant.SystemProperty;
+import dev.sample.framework.core.config.ConfigUtils;
 import dev.sample.framework.core.exception.dto.ErrorMessage;
 import dev.sample.framework.core.message.CoreMessageId;
 import dev.sample.framework.core.message.MessageId;
+import dev.sample.framework.core.metrics.Counter;
+import dev.sample.framework.core.metrics.MetricsRegistry;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * メッセージ・ユーティリティー.
+ * 設定ファイルの再読み込み時({@link ConfigUtils#reload()})は、メッセージプロパティも読み込み直します.
  */
 @UtilityClass
 @Slf4j
@@ -22,31 +33,74 @@ public class MessageUtils {
   /** FWメッセージ基底名. */
   private static final String FW_MESSAGE_BASE_NAME = "core-messages";
 
-  /** FWメッセージプロパティ. */
-  private static ResourceBundle coreMessages = null;
-  /** メッセージプロパティ. */
-  private static ResourceBundle messages = null;
+  /** メッセージの書式化回数. */
+  private static final Counter FORMATS = MetricsRegistry.counter("framework_message_formats_total", "Message formats.");
+
+  /** 読み込み済みのメッセージ. 読み込み直す場合は事前コンパイル済みメッセージごと差し替えます. */
+  private static volatile MessageSet messageSet;
 
   static {
+    messageSet = load();
+    if (messageSet == null) {
+      throw new ExceptionInInitializerError("メッセージプロパティファイルの読み込みに失敗しました。");
+    }
+    logLoaded(messageSet);
+
+    // 設定ファイルの再読み込み時はメッセージプロパティも読み込み直す
+    ConfigUtils.addListener(changedKeys -> reload());
+  }
+
+  /**
+   * メッセージプロパティを読み込み直します.
+   * FWメッセージプロパティの読み込みに失敗した場合は、現在のメッセージを継続して使用します.
+   */
+  public static synchronized void reload() {
+    MessageSet loaded = load();
+    if (loaded == null) {
+      log.warn(MessageUtils.getMessage(CoreMessageId.F0025W));
+      return;
+    }
+    messageSet = loaded;
+    logLoaded(loaded);
+  }
+
+  /**
+   * メッセージプロパティを読み込みます.
+   *
+   * @return 読み込んだメッセージ、FWメッセージプロパティの読み込みに失敗した場合はnull
+   */
+  private static MessageSet load() {
     // JVMにキャッシュされるのでクリア
     ResourceBundle.clearCache(MessageUtils.class.getClassLoader());
 
+    ResourceBundle coreMessages;
     try {
       coreMessages = ResourceBundle.getBundle(FW_MESSAGE_BASE_NAME);
-      log.info(MessageUtils.getMessage(CoreMessageId.F0006I, coreMessages.getBaseBundleName(), SystemProperty.LANGUAGE));
     } catch (MissingResourceException mre) {
-      throw new ExceptionInInitializerError("メッセージプロパティファイルの読み込みに失敗しました。");
+      return null;
     }
 
+    ResourceBundle messages = null;
     try {
       // Localeは環境依存
       messages = ResourceBundle.getBundle(MESSAGE_BASE_NAME);
-      log.info(MessageUtils.getMessage(CoreMessageId.F0006I, messages.getBaseBundleName(), SystemProperty.LANGUAGE));
 
     } catch (MissingResourceException mre) {
       // do nothing.
     }
+    return new MessageSet(coreMessages, messages);
+  }
 
+  /**
+   * 読み込んだメッセージプロパティをログに出力します.
+   *
+   * @param loaded 読み込んだメッセージ
+   */
+  private static void logLoaded(MessageSet loaded) {
+    log.info(MessageUtils.getMessage(CoreMessageId.F0006I, loaded.coreMessages.getBaseBundleName(), SystemProperty.LANGUAGE));
+    if (loaded.messages != null) {
+      log.info(MessageUtils.getMessage(CoreMessageId.F0006I, loaded.messages.getBaseBundleName(), SystemProperty.LANGUAGE));
+    }
   }
 
   /**
@@ -57,7 +111,8 @@ public class MessageUtils {
    * @return メッセージ
    */
   public static String getMessage(MessageId messageId, String... params) {
-    return MessageFormat.format(MessageUtils.getMessageTemplate(messageId), (Object[]) params);
+    FORMATS.increment();
+    return getCompiledMessage(messageId).format(params);
   }
 
   /**
@@ -70,22 +125,156 @@ public class MessageUtils {
     return getMessage(errorDto.getMessageId(), errorDto.getParams());
   }
 
+  /**
+   * 事前コンパイル済みメッセージを取得します.
+   * メッセージIDがenumの場合は、enum型ごとに全メッセージを一括でコンパイルし、序数で参照します.
+   *
+   * @param messageId メッセージID
+   * @return 事前コンパイル済みメッセージ
+   */
+  private static CompiledMessage getCompiledMessage(MessageId messageId) {
+    MessageSet current = messageSet;
+    if (messageId instanceof Enum) {
+      Enum<?> enumId = (Enum<?>) messageId;
+      return current.enumMessages.computeIfAbsent(enumId.getDeclaringClass(), enumType -> compileAll(current, enumType))[enumId
+          .ordinal()];
+    }
+    return current.compiledMessages.computeIfAbsent(messageId.name(),
+        name -> new CompiledMessage(getMessageTemplate(current, messageId)));
+  }
+
+  /**
+   * enum型の全メッセージIDのメッセージをコンパイルします.
+   *
+   * @param current 読み込み済みのメッセージ
+   * @param enumType メッセージIDのenum型
+   * @return 序数をインデックスとするメッセージの配列
+   */
+  private static CompiledMessage[] compileAll(MessageSet current, Class<?> enumType) {
+    Object[] constants = enumType.getEnumConstants();
+    CompiledMessage[] compiled = new CompiledMessage[constants.length];
+    for (int i = 0; i < constants.length; i++) {
+      compiled[i] = new CompiledMessage(getMessageTemplate(current, (MessageId) constants[i]));
+    }
+    return compiled;
+  }
+
   /**
    * メッセージテンプレートを取得します.
    *
+   * @param current 読み込み済みのメッセージ
    * @param messageId メッセージID
    * @return メッセージテンプレート
    */
-  private static String getMessageTemplate(MessageId messageId) {
+  private static String getMessageTemplate(MessageSet current, MessageId messageId) {
     String messageTemplate = "";
-    if (messages != null && messages.containsKey(messageId.name())) {
-      messageTemplate = messages.getString(messageId.name());
+    if (current.messages != null && current.messages.containsKey(messageId.name())) {
+      messageTemplate = current.messages.getString(messageId.name());
 
-    } else if (coreMessages.containsKey(messageId.name())) {
-      messageTemplate = coreMessages.getString(messageId.name());
+    } else if (current.coreMessages.containsKey(messageId.name())) {
+      messageTemplate = current.coreMessages.getString(messageId.name());
 
     }
 
     return messageTemplate;
   }
+
+  /**
+   * 読み込み済みのメッセージ.
+   * メッセージプロパティと、それから事前コンパイルしたメッセージを保持します.
+   */
+  @RequiredArgsConstructor
+  private static final class MessageSet {
+
+    /** FWメッセージプロパティ. */
+    private final ResourceBundle coreMessages;
+
+    /** メッセージプロパティ(存在しない場合はnull). */
+    private final ResourceBundle messages;
+
+    /** 事前コンパイル済みメッセージ(Key:メッセージIDのenum型、Value:序数をインデックスとするメッセージの配列). */
+    private final ConcurrentMap<Class<?>, CompiledMessage[]> enumMessages = new ConcurrentHashMap<>();
+
+    /** 事前コンパイル済みメッセージ(enum以外のメッセージID用、Key:メッセージID). */
+    private final ConcurrentMap<String, CompiledMessage> compiledMessages = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * 事前コンパイル済みメッセージ.
+   * 「{n}」形式のパラメーターのみのテンプレートは、分割済みの文字列を連結して書式化します.
+   * それ以外のテンプレートは、解析済みの{@link MessageFormat}の複製で書式化します.
+   */
+  private static final class CompiledMessage {
+
+    /** パラメーターの書式. */
+    private static final Pattern SIMPLE_PARAM = Pattern.compile("\\{(\\d+)\\}");
+
+    /** 固定文字列のリスト(パラメーター数+1). */
+    private final String[] literals;
+
+    /** パラメーターのインデックスのリスト. */
+    private final int[] paramIndexes;
+
+    /** 解析済みのメッセージフォーマット(「{n}」形式のパラメーターのみの場合はnull). */
+    private final MessageFormat messageFormat;
+
+    /**
+     * コンストラクター.
+     *
+     * @param template メッセージテンプレート
+     */
+    CompiledMessage(String template) {
+      if (template.indexOf('\'') < 0 && SIMPLE_PARAM.matcher(template).replaceAll("").indexOf('{') < 0) {
+        List<String> literalList = new ArrayList<>();
+        List<Integer> indexList = new ArrayList<>();
+        Matcher matcher = SIMPLE_PARAM.matcher(template);
+        int start = 0;
+        while (matcher.find()) {
+          literalList.add(template.substring(start, matcher.start()));
+          indexList.add(Integer.valueOf(matcher.group(1)));
+          start = matcher.end();
+        }
+        literalList.add(template.substring(start));
+
+        this.literals = literalList.toArray(new String[0]);
+        this.paramIndexes = indexList.stream().mapToInt(Integer::intValue).toArray();
+        this.messageFormat = null;
+
+      } else {
+        this.literals = null;
+        this.paramIndexes = null;
+        this.messageFormat = new MessageFormat(template);
+
+      }
+    }
+
+    /**
+     * メッセージを書式化します.
+     *
+     * @param params パラメーター
+     * @return メッセージ
+     */
+    String format(String... params) {
+      if (messageFormat != null) {
+        // MessageFormatはスレッドセーフではないため、解析済みの状態を複製して使用
+        return ((MessageFormat) messageFormat.clone()).format(params);
+      }
+      if (paramIndexes.length == 0) {
+        return literals[0];
+      }
+
+      StringBuilder message = new StringBuilder();
+      for (int i = 0; i < paramIndexes.length; i++) {
+        message.append(literals[i]);
+        int index = paramIndexes[i];
+        if (params != null && index < params.length) {
+          message.append(params[index]);
+        } else {
+          // MessageFormatと同様に未指定のパラメーターはそのまま出力
+          message.append('{').append(index).append('}');
+        }
+      }
+      return message.append(literals[paramIndexes.length]).toString();
+    }
+  }
 }
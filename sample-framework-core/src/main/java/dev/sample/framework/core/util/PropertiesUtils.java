@@ -1,6 +1,7 @@
 package dev.sample.framework.core.util;
 
 import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.Properties;
@@ -25,12 +26,12 @@ public class PropertiesUtils {
 
       Properties property = new Properties();
       property.load(Objects.requireNonNull(is));
-      log.info(MessageUtils.getMessage(CoreMessageId.F0002I, resName));
+      log.info("{}", LazyMessage.of(CoreMessageId.F0002I, resName));
 
       return property;
 
     } catch (Exception e) {
-      log.warn(MessageUtils.getMessage(CoreMessageId.F0003W, resName));
+      log.warn("{}", LazyMessage.of(CoreMessageId.F0003W, resName));
       return null;
 
     }
@@ -1,19 +1,62 @@
 package dev.sample.framework.core.util;
 
+import dev.sample.framework.core.data.condition.PredicateDo;
 import dev.sample.framework.core.data.condition.SearchConditionDo;
 import dev.sample.framework.core.data.condition.SortDo;
+import dev.sample.framework.core.data.entity.EntityMetadata;
+import dev.sample.framework.core.exception.ApplicationException;
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.exception.dto.ErrorMessage;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.Value;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * クエリビルダー.
+ * 構築したクエリは、Entity・クエリパラメーターのキー・ソート順からなるクエリの形状をキーにキャッシュします.
+ * 同一形状の検索では同一のJPQL文字列を返すため、JPAプロバイダーのクエリ解析結果(クエリプラン)も再利用されます.
  */
 @UtilityClass
 public class QueryBuilder {
 
+  /** キーセットページング用パラメーター名の接頭辞. */
+  private static final String KEYSET_PARAM_PREFIX = "keyset";
+
+  /** 検索条件(述語)用パラメーター名の接頭辞. */
+  private static final String PREDICATE_PARAM_PREFIX = "pred";
+
+  /** LIKE用エスケープ文字. */
+  private static final String LIKE_ESCAPE = "\\";
+
+  /** クエリパラメーター名：IDのリスト. */
+  public static final String PARAM_IDS = "ids";
+
+  /** クエリキャッシュの最大保持件数. */
+  private static final long QUERY_CACHE_MAXIMUM_SIZE = 1000L;
+
+  /** クエリキャッシュ(Key:クエリの形状、Value:構築済みクエリ). */
+  private static final Cache<QueryShape, CompiledQuery> QUERY_CACHE = CacheBuilder.newBuilder()
+      .maximumSize(QUERY_CACHE_MAXIMUM_SIZE)
+      .recordStats()
+      .build();
+
+  static {
+    MetricsRegistry.functionCounter("framework_query_cache_hits_total", "Query cache hits.", () -> QUERY_CACHE.stats().hitCount());
+    MetricsRegistry.functionCounter("framework_query_cache_misses_total", "Query cache misses.", () -> QUERY_CACHE.stats().missCount());
+  }
+
   /**
    * 検索件数取得クエリ、検索結果取得クエリを構築します.
    *
@@ -22,26 +65,160 @@ public class QueryBuilder {
    * @param searchCondition {@link SearchConditionDo} 検索条件DO
    */
   public static <E> void buildQuery(Class<E> entity, SearchConditionDo searchCondition) {
+    buildQuery(entity, Collections.emptyList(), searchCondition);
+  }
+
+  /**
+   * 検索件数取得クエリ、検索結果取得クエリを構築します.
+   * 検索対象のプロパティを指定した場合は、指定したプロパティのみを取得する射影クエリとなります.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param selectFields 検索対象のプロパティ名のリスト(空の場合はEntity)
+   * @param searchCondition {@link SearchConditionDo} 検索条件DO
+   */
+  public static <E> void buildQuery(Class<E> entity, List<String> selectFields, SearchConditionDo searchCondition) {
+    List<SortDo> sortList = searchCondition.getSortList();
+    boolean keyset = false;
+    if (searchCondition.getFilter().isKeyset()) {
+      // キーセットページングの場合はIDを加えて行の並びを一意にする
+      sortList = getKeysetSortList(entity, searchCondition);
+      keyset = buildKeysetParams(entity, sortList, searchCondition);
+    }
+    String predicates = buildPredicates(entity, searchCondition);
+
+    QueryShape shape = new QueryShape(entity, selectFields, new ArrayList<>(searchCondition.getQueryParams().keySet()), predicates,
+        toSortKeys(sortList), keyset);
+    CompiledQuery compiled = QUERY_CACHE.getIfPresent(shape);
+    if (compiled == null) {
+      compiled = compile(entity, selectFields, searchCondition.getQueryParams(), predicates, sortList, keyset);
+      QUERY_CACHE.put(shape, compiled);
+    }
+
+    searchCondition.setCountQuery(compiled.getCountQuery());
+    searchCondition.setSearchQuery(compiled.getSearchQuery());
+  }
+
+  /**
+   * 一括削除クエリを構築します.
+   * 検索条件(述語)のパラメーターは検索条件(述語)用クエリパラメーターMapに格納します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param searchCondition {@link SearchConditionDo} 検索条件DO
+   * @return 一括削除クエリ
+   */
+  public static <E> String buildDeleteQuery(Class<E> entity, SearchConditionDo searchCondition) {
+    String where = buildWhere(searchCondition.getQueryParams(), buildPredicates(entity, searchCondition));
+    if (StringUtils.isEmpty(where)) {
+      // 条件なしの全件削除は許容しない
+      throw new SystemException(new ErrorMessage(CoreMessageId.F0018E, entity.getSimpleName()));
+    }
+    return new StringBuilder().append("DELETE FROM ").append(entity.getSimpleName()).append(" e WHERE ").append(where).toString();
+  }
+
+  /**
+   * IDのリストによる一括検索クエリを構築します.
+   * IDのリストはクエリパラメーター{@link #PARAM_IDS}に設定します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @return 一括検索クエリ
+   */
+  public static <E> String buildFindAllQuery(Class<E> entity) {
+    return new StringBuilder().append("SELECT e FROM ").append(entity.getSimpleName()).append(" e WHERE e.")
+        .append(EntityMetadata.of(entity).getIdField().getName()).append(" IN :").append(PARAM_IDS).toString();
+  }
+
+  /**
+   * クエリキャッシュの統計情報(ヒット数、ミス数など)を取得します.
+   *
+   * @return {@link CacheStats} クエリキャッシュの統計情報
+   */
+  public static CacheStats getQueryCacheStats() {
+    return QUERY_CACHE.stats();
+  }
+
+  /**
+   * 検索件数取得クエリ、検索結果取得クエリを構築します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param selectFields 検索対象のプロパティ名のリスト(空の場合はEntity)
+   * @param queryParams クエリパラメータMap
+   * @param predicates 検索条件(述語)の条件節
+   * @param sortList ソート順({@link SortDo})のリスト
+   * @param keyset キーセットの条件を付与する場合はtrue
+   * @return 構築済みクエリ
+   */
+  private static <E> CompiledQuery compile(Class<E> entity, List<String> selectFields, Map<String, Object> queryParams, String predicates,
+      List<SortDo> sortList, boolean keyset) {
     String entityName = entity.getSimpleName();
-    String where = buildWhere(searchCondition.getQueryParams());
+    String where = buildWhere(queryParams, predicates);
 
     // 検索件数取得クエリ構築
     StringBuilder countQuery = new StringBuilder().append("SELECT COUNT(e) FROM ").append(entityName).append(" e ");
     // 検索結果取得クエリ構築
-    StringBuilder searchQuery = new StringBuilder().append("SELECT e FROM ").append(entityName).append(" e ");
+    StringBuilder searchQuery = new StringBuilder().append("SELECT ").append(buildSelect(selectFields)).append(" FROM ").append(entityName)
+        .append(" e ");
 
     if (StringUtils.isNotEmpty(where)) {
       countQuery.append("WHERE ").append(where);
       searchQuery.append("WHERE ").append(where);
     }
 
-    String orderBy = buildOrderBy(searchCondition.getSortList());
+    if (keyset) {
+      searchQuery.append(StringUtils.isNotEmpty(where) ? "AND " : "WHERE ").append(buildKeyset(sortList));
+    }
+
+    String orderBy = buildOrderBy(sortList);
     if (StringUtils.isNotEmpty(orderBy)) {
       searchQuery.append(orderBy);
     }
 
-    searchCondition.setCountQuery(countQuery.toString());
-    searchCondition.setSearchQuery(searchQuery.toString());
+    return new CompiledQuery(countQuery.toString(), searchQuery.toString());
+  }
+
+  /**
+   * SELECT節を構築します.
+   *
+   * @param selectFields 検索対象のプロパティ名のリスト(空の場合はEntity)
+   * @return SELECT節(SELECT句は含みません)
+   */
+  private static String buildSelect(List<String> selectFields) {
+    if (selectFields.isEmpty()) {
+      return "e";
+    }
+    StringBuilder select = new StringBuilder();
+    for (String field : selectFields) {
+      if (0 < select.length()) {
+        select.append(", ");
+      }
+      select.append("e.").append(field);
+    }
+    return select.toString();
+  }
+
+  /**
+   * キーセットページングで使用するソート順のリストを取得します.
+   * ソート順のリストにIDが含まれていない場合は末尾にIDの昇順を追加します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param searchCondition {@link SearchConditionDo} 検索条件DO
+   * @return ソート順({@link SortDo})のリスト
+   */
+  public static <E> List<SortDo> getKeysetSortList(Class<E> entity, SearchConditionDo searchCondition) {
+    List<SortDo> sortList = new ArrayList<>();
+    if (searchCondition.getSortList() != null) {
+      sortList.addAll(searchCondition.getSortList());
+    }
+    for (String idField : EntityMetadata.of(entity).getIdFieldNames()) {
+      if (sortList.stream().noneMatch(sort -> idField.equals(sort.getField()))) {
+        sortList.add(SortDo.builder().field(idField).build());
+      }
+    }
+    return sortList;
   }
 
   /**
@@ -64,6 +241,216 @@ public class QueryBuilder {
     return where.toString();
   }
 
+  /**
+   * クエリパラメータMapによる一致条件と検索条件(述語)を結合したWHERE節を構築します.
+   *
+   * @param queryParams クエリパラメータMap
+   * @param predicates 検索条件(述語)の条件節
+   * @return WHERE節(WHERE句は含みません)
+   */
+  private static String buildWhere(Map<String, Object> queryParams, String predicates) {
+    String where = buildWhere(queryParams);
+    if (StringUtils.isEmpty(predicates)) {
+      return where;
+    }
+    return StringUtils.isNotEmpty(where) ? where + "AND " + predicates : predicates;
+  }
+
+  /**
+   * 検索条件(述語)の条件節を構築し、パラメーターを検索条件(述語)用クエリパラメーターMapに格納します.
+   * 値はバインド変数とし、Entityのプロパティの型に変換して格納します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param searchCondition {@link SearchConditionDo} 検索条件DO
+   * @return 検索条件(述語)の条件節(WHERE句は含みません)
+   */
+  private static <E> String buildPredicates(Class<E> entity, SearchConditionDo searchCondition) {
+    Map<String, Object> params = searchCondition.getPredicateParams();
+    params.clear();
+    if (searchCondition.getPredicates() == null || searchCondition.getPredicates().isEmpty()) {
+      return StringUtils.EMPTY;
+    }
+    StringBuilder where = new StringBuilder();
+    for (PredicateDo predicate : searchCondition.getPredicates()) {
+      if (0 < where.length()) {
+        where.append("AND ");
+      }
+      where.append(buildPredicate(entity, predicate, params)).append(" ");
+    }
+    return where.toString();
+  }
+
+  /**
+   * 検索条件(述語)を構築します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param predicate {@link PredicateDo} 検索条件(述語)DO
+   * @param params 検索条件(述語)用クエリパラメーターMap
+   * @return 検索条件(述語)
+   */
+  private static <E> String buildPredicate(Class<E> entity, PredicateDo predicate, Map<String, Object> params) {
+    String path = "e." + predicate.getField();
+    switch (predicate.getOperator()) {
+      case EQ:
+        return path + " = " + bind(entity, predicate.getField(), predicate.getValue(), params);
+      case NE:
+        return path + " <> " + bind(entity, predicate.getField(), predicate.getValue(), params);
+      case LT:
+        return path + " < " + bind(entity, predicate.getField(), predicate.getValue(), params);
+      case LE:
+        return path + " <= " + bind(entity, predicate.getField(), predicate.getValue(), params);
+      case GT:
+        return path + " > " + bind(entity, predicate.getField(), predicate.getValue(), params);
+      case GE:
+        return path + " >= " + bind(entity, predicate.getField(), predicate.getValue(), params);
+      case BETWEEN:
+        return path + " BETWEEN " + bind(entity, predicate.getField(), predicate.getValue(), params)
+            + " AND " + bind(entity, predicate.getField(), predicate.getToValue(), params);
+      case IN:
+        Collection<?> values = (Collection<?>) predicate.getValue();
+        if (values == null || values.isEmpty()) {
+          // 該当なし
+          return "(" + path + " IS NULL AND " + path + " IS NOT NULL)";
+        }
+        List<Object> inValues = new ArrayList<>();
+        values.forEach(value -> inValues.add(toPropertyType(entity, predicate.getField(), value)));
+        return path + " IN " + bind(inValues, params);
+      case STARTS_WITH:
+        return path + " LIKE " + bind(escapeLike(String.valueOf(predicate.getValue())) + "%", params) + " ESCAPE '" + LIKE_ESCAPE + "'";
+      case IS_NULL:
+        return path + " IS NULL";
+      case IS_NOT_NULL:
+        return path + " IS NOT NULL";
+      case OR:
+        List<String> orPredicates = new ArrayList<>();
+        predicate.getPredicates().forEach(orPredicate -> orPredicates.add(buildPredicate(entity, orPredicate, params)));
+        return "(" + String.join(" OR ", orPredicates) + ")";
+      default:
+        throw new IllegalArgumentException(predicate.getOperator().name());
+    }
+  }
+
+  /**
+   * 値をプロパティの型に変換してパラメーターMapに格納し、バインド変数を返します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param field 項目名
+   * @param value 値
+   * @param params パラメーターMap
+   * @return バインド変数
+   */
+  private static <E> String bind(Class<E> entity, String field, Object value, Map<String, Object> params) {
+    return bind(toPropertyType(entity, field, value), params);
+  }
+
+  /**
+   * 値をパラメーターMapに格納し、バインド変数を返します.
+   *
+   * @param value 値
+   * @param params パラメーターMap
+   * @return バインド変数
+   */
+  private static String bind(Object value, Map<String, Object> params) {
+    String name = PREDICATE_PARAM_PREFIX + params.size();
+    params.put(name, value);
+    return ":" + name;
+  }
+
+  /**
+   * LIKEのワイルドカード文字をエスケープします.
+   *
+   * @param value 値
+   * @return エスケープした値
+   */
+  private static String escapeLike(String value) {
+    return value.replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE).replace("%", LIKE_ESCAPE + "%").replace("_", LIKE_ESCAPE + "_");
+  }
+
+  /**
+   * 値をEntityのプロパティの型に変換します.
+   * 文字列などで受け取った値をバインド変数の型に合わせるために使用します.
+   * 値はクライアントの入力(検索条件式、カーソル)のため、変換できない場合は{@link ApplicationException}を送出します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param field 項目名
+   * @param value 値
+   * @return 変換後の値
+   */
+  private static <E> Object toPropertyType(Class<E> entity, String field, Object value) {
+    Class<?> propertyType = ClassUtils.primitiveToWrapper(ReflectionUtils.getPropertyType(entity, field));
+    if (value == null || propertyType == null || propertyType.isInstance(value)) {
+      return value;
+    }
+
+    try {
+      return JsonUtils.convertValue(value, propertyType);
+
+    } catch (SystemException e) {
+      throw new ApplicationException(e, new ErrorMessage(CoreMessageId.F0017E, field + ":" + value));
+
+    }
+  }
+
+  /**
+   * 前ページ最終行のソートキー値をキーセットページング用クエリパラメーターMapに格納します.
+   * 値はEntityのプロパティの型に変換して格納します.
+   *
+   * @param <E> Entity
+   * @param entity entity
+   * @param sortList ソート順({@link SortDo})のリスト
+   * @param searchCondition {@link SearchConditionDo} 検索条件DO
+   * @return キーセットの条件を付与する場合はtrue、前ページ最終行のソートキーが未指定の場合はfalse
+   */
+  private static <E> boolean buildKeysetParams(Class<E> entity, List<SortDo> sortList, SearchConditionDo searchCondition) {
+    searchCondition.getKeysetParams().clear();
+    List<Object> lastKeys = searchCondition.getFilter().getLastKeys();
+    if (lastKeys == null || lastKeys.isEmpty()) {
+      return false;
+    }
+    if (lastKeys.size() != sortList.size()) {
+      throw new ApplicationException(null, new ErrorMessage(CoreMessageId.F0016E, lastKeys.toString()));
+    }
+
+    for (int i = 0; i < sortList.size(); i++) {
+      searchCondition.getKeysetParams().put(KEYSET_PARAM_PREFIX + i, toPropertyType(entity, sortList.get(i).getField(), lastKeys.get(i)));
+    }
+    return true;
+  }
+
+  /**
+   * キーセットページングの条件節を構築します.
+   * JPQLは行値式({@code (k1, k2) > (:a, :b)})をサポートしないため、
+   * {@code k1 >= :a AND (k1 > :a OR (k1 = :a AND k2 > :b))} の形式に展開します.
+   * 先頭キーの範囲条件によりインデックスのレンジスキャンが可能になります.
+   * ソートキーにnullを含む行はサポートしません.
+   *
+   * @param sortList ソート順({@link SortDo})のリスト
+   * @return キーセットページングの条件節
+   */
+  private static String buildKeyset(List<SortDo> sortList) {
+    StringBuilder keyset = new StringBuilder();
+    SortDo first = sortList.get(0);
+    keyset.append("e.").append(first.getField()).append(first.isAsc() ? " >= :" : " <= :").append(KEYSET_PARAM_PREFIX).append(0)
+        .append(" AND (");
+    for (int i = 0; i < sortList.size(); i++) {
+      if (0 < i) {
+        keyset.append(" OR ");
+      }
+      keyset.append("(");
+      for (int j = 0; j < i; j++) {
+        keyset.append("e.").append(sortList.get(j).getField()).append(" = :").append(KEYSET_PARAM_PREFIX).append(j).append(" AND ");
+      }
+      SortDo sort = sortList.get(i);
+      keyset.append("e.").append(sort.getField()).append(sort.isAsc() ? " > :" : " < :").append(KEYSET_PARAM_PREFIX).append(i)
+          .append(")");
+    }
+    return keyset.append(") ").toString();
+  }
+
   /**
    * ORDER BY節を構築します.
    *
@@ -84,4 +471,59 @@ public class QueryBuilder {
     return orderBy.insert(0, "ORDER BY ").toString();
   }
 
+  /**
+   * ソート順のリストをクエリの形状のキーに変換します.
+   *
+   * @param sortList ソート順({@link SortDo})のリスト
+   * @return 「項目名:ASC or DESC」のリスト
+   */
+  private static List<String> toSortKeys(List<SortDo> sortList) {
+    List<String> sortKeys = new ArrayList<>();
+    if (sortList != null) {
+      sortList.forEach(sort -> sortKeys.add(sort.getField() + (sort.isAsc() ? ":ASC" : ":DESC")));
+    }
+    return sortKeys;
+  }
+
+  /**
+   * クエリの形状.
+   * クエリキャッシュのキーとして使用します.
+   */
+  @Value
+  private static class QueryShape {
+
+    /** Entity. */
+    private final Class<?> entity;
+
+    /** 検索対象のプロパティ名のリスト. */
+    private final List<String> selectFields;
+
+    /** クエリパラメーターのキーのリスト. */
+    private final List<String> paramKeys;
+
+    /** 検索条件(述語)の条件節. */
+    private final String predicates;
+
+    /** ソート順のリスト. */
+    private final List<String> sortKeys;
+
+    /** キーセットの条件有無. */
+    private final boolean keyset;
+
+  }
+
+  /**
+   * 構築済みクエリ.
+   */
+  @Value
+  private static class CompiledQuery {
+
+    /** 検索件数取得クエリ. */
+    private final String countQuery;
+
+    /** 検索結果取得クエリ. */
+    private final String searchQuery;
+
+  }
+
 }
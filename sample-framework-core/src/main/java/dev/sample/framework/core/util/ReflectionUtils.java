@@ -4,11 +4,20 @@ import dev.sample.framework.core.exception.SystemException;
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
 /**
@@ -17,8 +26,13 @@ import org.apache.commons.lang3.reflect.FieldUtils;
 @UtilityClass
 public class ReflectionUtils {
 
+  /** アノテーションが定義されたインスタンス変数のアクセサーのキャッシュ. */
+  private static final ConcurrentMap<Class<?>, ConcurrentMap<Class<? extends Annotation>, Optional<MethodHandle>>> ANNOTATED_ACCESSORS =
+      new ConcurrentHashMap<>();
+
   /**
    * オブジェクトからアノテーションが定義されたインスタンス変数を取得します.
+   * アクセサーはクラス、アノテーションごとに初回のみ解決し、キャッシュします.
    *
    * @param <T> PrimaryKeyの型
    * @param annotation アノテーション
@@ -27,20 +41,120 @@ public class ReflectionUtils {
    */
   @SuppressWarnings("unchecked")
   public static <T> T getAnnotatedField(@NonNull Class<? extends Annotation> annotation, @NonNull Object target) {
-    List<Field> fieldsListWithAnnotation = FieldUtils.getFieldsListWithAnnotation(target.getClass(), annotation);
-    if (!fieldsListWithAnnotation.isEmpty()) {
-      Field field = fieldsListWithAnnotation.get(0);
+    Optional<MethodHandle> accessor = ANNOTATED_ACCESSORS.computeIfAbsent(target.getClass(), type -> new ConcurrentHashMap<>())
+        .computeIfAbsent(annotation, key -> Optional.ofNullable(findAnnotatedField(key, target.getClass())).map(ReflectionUtils::getAccessor));
+
+    return accessor.isPresent() ? (T) invoke(accessor.get(), target) : null;
+  }
+
+  /**
+   * フィールドの値を取得するアクセサーを取得します.
+   * getterが存在する場合はgetter、存在しない場合はフィールドを直接参照します.
+   *
+   * @param field フィールド
+   * @return アクセサー({@code (Object) -> Object}の{@link MethodHandle})
+   */
+  public static MethodHandle getAccessor(@NonNull Field field) {
+    try {
+      MethodHandle handle;
+      Method readMethod = findReadMethod(field);
+      if (readMethod != null) {
+        handle = MethodHandles.publicLookup().unreflect(readMethod);
+      } else {
+        field.setAccessible(true);
+        handle = MethodHandles.lookup().unreflectGetter(field);
+      }
+      return handle.asType(MethodType.methodType(Object.class, Object.class));
 
-      try {
-        PropertyDescriptor pd = new PropertyDescriptor(field.getName(), target.getClass());
-        return (T) pd.getReadMethod().invoke(target);
+    } catch (IllegalAccessException e) {
+      throw new SystemException(e);
 
-      } catch (IntrospectionException | IllegalAccessException | InvocationTargetException e) {
-        throw new SystemException(e);
+    }
+  }
 
+  /**
+   * アクセサーを実行して値を取得します.
+   *
+   * @param accessor アクセサー({@link #getAccessor(Field)}で取得したもの)
+   * @param target オブジェクト
+   * @return 値
+   */
+  public static Object invoke(@NonNull MethodHandle accessor, @NonNull Object target) {
+    try {
+      return accessor.invokeExact(target);
+
+    } catch (RuntimeException e) {
+      throw e;
+
+    } catch (Throwable e) {
+      throw new SystemException(e);
+
+    }
+  }
+
+  /**
+   * クラスからアノテーションが定義されたフィールドを検索します.
+   *
+   * @param annotation アノテーション
+   * @param type クラス
+   * @return フィールド、アノテーションが見つからない場合はnull
+   */
+  public static Field findAnnotatedField(@NonNull Class<? extends Annotation> annotation, @NonNull Class<?> type) {
+    List<Field> fieldsListWithAnnotation = FieldUtils.getFieldsListWithAnnotation(type, annotation);
+    return fieldsListWithAnnotation.isEmpty() ? null : fieldsListWithAnnotation.get(0);
+  }
+
+  /**
+   * オブジェクトからプロパティ値を取得します.
+   * ネストしたプロパティは「.」区切りで指定します.
+   *
+   * @param target オブジェクト
+   * @param path プロパティパス
+   * @return プロパティ値
+   */
+  public static Object getProperty(@NonNull Object target, @NonNull String path) {
+    try {
+      return PropertyUtils.getNestedProperty(target, path);
+
+    } catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+      throw new SystemException(e);
+
+    }
+  }
+
+  /**
+   * クラスからプロパティの型を取得します.
+   * ネストしたプロパティは「.」区切りで指定します.
+   *
+   * @param type クラス
+   * @param path プロパティパス
+   * @return プロパティの型、フィールドが見つからない場合はnull
+   */
+  public static Class<?> getPropertyType(@NonNull Class<?> type, @NonNull String path) {
+    Class<?> propertyType = type;
+    for (String name : StringUtils.split(path, '.')) {
+      Field field = FieldUtils.getField(propertyType, name, true);
+      if (field == null) {
+        return null;
       }
+      propertyType = field.getType();
     }
+    return propertyType;
+  }
 
-    return null;
+  /**
+   * フィールドのgetterを検索します.
+   *
+   * @param field フィールド
+   * @return getter、見つからない場合はnull
+   */
+  private static Method findReadMethod(Field field) {
+    try {
+      return new PropertyDescriptor(field.getName(), field.getDeclaringClass()).getReadMethod();
+
+    } catch (IntrospectionException e) {
+      return null;
+
+    }
   }
 }
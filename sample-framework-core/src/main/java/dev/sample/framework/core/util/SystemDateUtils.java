@@ -3,12 +3,22 @@ package dev.sample.framework.core.util;
 import dev.sample.common.util.DateFormat.DateFormatVo;
 import dev.sample.common.util.LocalDateFormatUtils;
 import dev.sample.framework.core.config.ConfigUtils;
+import dev.sample.framework.core.data.dao.EntityCache;
 import dev.sample.framework.core.data.dao.SystemDateDao;
+import dev.sample.framework.core.data.entity.SystemDateEntity;
 import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.LazyMessage;
+import dev.sample.framework.core.metrics.Counter;
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import dev.sample.framework.core.metrics.Timer;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -28,20 +38,69 @@ import org.apache.commons.lang3.StringUtils;
 @Slf4j
 public class SystemDateUtils {
 
+  /** キー情報の接頭辞. */
+  private static final String KEY_PREFIX = "framework.systemDate.";
   /** キー情報：利用有無. */
   private static final String KEY_USE = "framework.systemDate.use";
   /** キー情報：みなし日付. */
   private static final String KEY_DEEMED_DATE = "framework.systemDate.deemedDate";
+  /** キー情報：システム日付マスタの再読み込み間隔(秒). */
+  private static final String KEY_REFRESH_INTERVAL = "framework.systemDate.refreshInterval";
+  /** キー情報：システム日付マスタの最大許容経過時間(秒). */
+  private static final String KEY_MAX_STALENESS = "framework.systemDate.maxStaleness";
+  /** システム日付マスタの再読み込み間隔(秒)(デフォルト). */
+  private static final int DEFAULT_REFRESH_INTERVAL = 60;
+  /** システム日付マスタの最大許容経過時間(秒)(デフォルト). */
+  private static final int DEFAULT_MAX_STALENESS = 300;
 
   /** システム日付（みなし日付）（プロパティ設定値）. */
-  private static Optional<LocalDate> propertyDateOpt = Optional.empty();
+  private static volatile Optional<LocalDate> propertyDateOpt = Optional.empty();
 
   /** 利用制限. */
-  private static boolean restriction;
+  private static volatile boolean restriction;
+
+  /** システム日付マスタの再読み込み間隔(ナノ秒). */
+  private static volatile long refreshIntervalNanos;
+
+  /** システム日付マスタの最大許容経過時間(ナノ秒). */
+  private static volatile long maxStalenessNanos;
+
+  /** システム日付（みなし日付）（システム日付マスタ読み込み値）. */
+  private static volatile CachedDate cachedDate;
+
+  /** 再読み込み中. */
+  private static final AtomicBoolean REFRESHING = new AtomicBoolean();
+
+  /** 同期読み込み用ロック. */
+  private static final Object LOCK = new Object();
+
+  /** 再読み込み回数. */
+  private static final Counter REFRESH_COUNT = MetricsRegistry.counter("framework_system_date_refreshes_total", "System date refreshes.");
+
+  /** 再読み込み失敗回数. */
+  private static final Counter REFRESH_FAILURE_COUNT = MetricsRegistry.counter("framework_system_date_refresh_failures_total",
+      "System date refresh failures.");
+
+  /** 再読み込み処理時間. */
+  private static final Timer REFRESH_TIMER = MetricsRegistry.timer("framework_system_date_refresh_seconds",
+      "System date refresh time in seconds.");
+
+  /** 再読み込み処理時間の合計(ナノ秒). */
+  private static final AtomicLong REFRESH_TOTAL_NANOS = new AtomicLong();
+
+  /** 直近の再読み込み処理時間(ナノ秒). */
+  private static volatile long lastRefreshNanos;
 
   // プロパティ読み込み
   static {
     init();
+    // 設定ファイルの再読み込み時はプロパティを読み込み直し、システム日付マスタの読み込み値を破棄
+    ConfigUtils.addListener(changedKeys -> {
+      if (changedKeys.stream().anyMatch(key -> key.startsWith(KEY_PREFIX))) {
+        init();
+        invalidate();
+      }
+    });
   }
 
   /**
@@ -50,12 +109,17 @@ public class SystemDateUtils {
   private static void init() {
     boolean use = ConfigUtils.getAsBoolean(KEY_USE);
     String deemedDate = ConfigUtils.getAsString(KEY_DEEMED_DATE);
-    if (!use) {
-      restriction = true;
-
-    } else if (StringUtils.isNotEmpty(deemedDate)) {
+    int refreshInterval = ConfigUtils.getAsInt(KEY_REFRESH_INTERVAL);
+    refreshIntervalNanos = TimeUnit.SECONDS.toNanos(refreshInterval >= 0 ? refreshInterval : DEFAULT_REFRESH_INTERVAL);
+    int maxStaleness = ConfigUtils.getAsInt(KEY_MAX_STALENESS);
+    maxStalenessNanos = Math.max(TimeUnit.SECONDS.toNanos(maxStaleness >= 0 ? maxStaleness : DEFAULT_MAX_STALENESS), refreshIntervalNanos);
+    restriction = !use;
+    if (use && StringUtils.isNotEmpty(deemedDate)) {
       propertyDateOpt = Optional.of(LocalDateFormatUtils.parse(deemedDate, DateFormatVo.YYYYMMDD_NO_DELIMITER));
-      log.info(MessageUtils.getMessage(CoreMessageId.F0005I, deemedDate));
+      log.info("{}", LazyMessage.of(CoreMessageId.F0005I, deemedDate));
+
+    } else {
+      propertyDateOpt = Optional.empty();
 
     }
   }
@@ -81,6 +145,25 @@ public class SystemDateUtils {
   }
 
 
+  /**
+   * システム日付マスタの読み込み値を破棄します.
+   * 次回の日付取得時にシステム日付マスタを再読み込みします.
+   */
+  public static void invalidate() {
+    cachedDate = null;
+    EntityCache.invalidate(SystemDateEntity.class);
+  }
+
+  /**
+   * システム日付マスタの再読み込みの統計情報を取得します.
+   *
+   * @return {@link RefreshStats} 再読み込みの統計情報
+   */
+  public static RefreshStats getRefreshStats() {
+    return new RefreshStats(REFRESH_COUNT.get(), REFRESH_FAILURE_COUNT.get(), TimeUnit.NANOSECONDS.toMillis(REFRESH_TOTAL_NANOS.get()),
+        TimeUnit.NANOSECONDS.toMillis(lastRefreshNanos));
+  }
+
   /**
    * システム日付（みなし日付）を作成します.
    * 利用制限がある場合は実際の現在日付を返します.
@@ -95,9 +178,103 @@ public class SystemDateUtils {
     }
 
     return propertyDateOpt.orElseGet(() -> {
-      LocalDate deemedDate = CdiUtils.getBean(SystemDateDao.class).find().getSystemDate();
+      LocalDate deemedDate = getCachedDate();
       return deemedDate != null ? deemedDate : LocalDate.now();
     });
   }
 
+  /**
+   * システム日付マスタの読み込み値を取得します.
+   * 再読み込み間隔を経過した場合は1スレッドのみが再読み込みを行い、他のスレッドは読み込み済みの値を返します.
+   * 最大許容経過時間を経過した場合、または未読み込みの場合は、再読み込みが完了するまで待機します.
+   *
+   * @return システム日付（みなし日付）
+   */
+  private static LocalDate getCachedDate() {
+    CachedDate current = cachedDate;
+    long now = System.nanoTime();
+    if (current == null || now - current.getLoadedAt() >= maxStalenessNanos) {
+      synchronized (LOCK) {
+        current = cachedDate;
+        if (current == null || System.nanoTime() - current.getLoadedAt() >= maxStalenessNanos) {
+          current = refresh();
+        }
+      }
+
+    } else if (now - current.getLoadedAt() >= refreshIntervalNanos && REFRESHING.compareAndSet(false, true)) {
+      try {
+        current = refresh();
+
+      } catch (RuntimeException e) {
+        // 最大許容経過時間内は読み込み済みの値を使用する
+        log.warn(e.getMessage(), e);
+
+      } finally {
+        REFRESHING.set(false);
+
+      }
+    }
+    return current.getDate();
+  }
+
+  /**
+   * システム日付マスタを再読み込みします.
+   * 最大許容経過時間を読み込み時刻から保証するため、Daoの読み込みキャッシュを経由せずに検索します.
+   *
+   * @return 読み込み値
+   */
+  private static CachedDate refresh() {
+    long startTime = System.nanoTime();
+    try {
+      CachedDate loaded = new CachedDate(CdiUtils.getBean(SystemDateDao.class).load().getSystemDate(), System.nanoTime());
+      cachedDate = loaded;
+      return loaded;
+
+    } catch (RuntimeException e) {
+      REFRESH_FAILURE_COUNT.increment();
+      throw e;
+
+    } finally {
+      long elapsed = System.nanoTime() - startTime;
+      REFRESH_COUNT.increment();
+      REFRESH_TIMER.record(elapsed);
+      REFRESH_TOTAL_NANOS.addAndGet(elapsed);
+      lastRefreshNanos = elapsed;
+
+    }
+  }
+
+  /**
+   * システム日付マスタの読み込み値.
+   */
+  @Value
+  private static class CachedDate {
+
+    /** システム日付（みなし日付）. */
+    private final LocalDate date;
+
+    /** 読み込み時刻({@link System#nanoTime()}). */
+    private final long loadedAt;
+
+  }
+
+  /**
+   * システム日付マスタの再読み込みの統計情報.
+   */
+  @Value
+  public static class RefreshStats {
+
+    /** 再読み込み回数. */
+    private final long refreshCount;
+
+    /** 再読み込み失敗回数. */
+    private final long failureCount;
+
+    /** 再読み込み処理時間の合計(ミリ秒). */
+    private final long totalRefreshTimeMillis;
+
+    /** 直近の再読み込み処理時間(ミリ秒). */
+    private final long lastRefreshTimeMillis;
+
+  }
 }
@@ -1,12 +1,18 @@
 package dev.sample.framework.core.config;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
 import dev.sample.common.code.GenderVo;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -252,4 +258,157 @@ class ConfigUtilsTest {
       assertThat(actual).as(desc).isNull();
     }
   }
+
+  @DisplayName("設定値のメモ化のテスト")
+  @Nested
+  class Memoize {
+    @Test
+    @DisplayName("正常系 - 取得したBeanを変更しても次回取得時に影響しないこと")
+    void testBean() {
+      // --- setup -----
+      String key = "test.common.ConfigUtilsTest.GetAsBean";
+      MultipleTypeConfig first = ConfigUtils.getAsBean(key, MultipleTypeConfig.class);
+      first.setStringValue("changed");
+
+      // --- execute ---
+      MultipleTypeConfig actual = ConfigUtils.getAsBean(key, MultipleTypeConfig.class);
+
+      // --- verify ----
+      assertAll("取得結果検証",
+          () -> assertThat(actual).as("呼び出しごとに別のインスタンスを取得できること").isNotSameAs(first),
+          () -> assertThat(actual.getStringValue()).as("設定値を取得できること").isEqualTo("xyz"));
+    }
+
+    @Test
+    @DisplayName("正常系 - 文字列のリストは変更できないこと")
+    void testStringList() {
+      // --- setup -----
+      // --- execute ---
+      List<String> actual = ConfigUtils.getAsStringList("test.common.ConfigUtilsTest.GetAsStringList");
+
+      // --- verify ----
+      assertThatThrownBy(() -> actual.add("add")).as("変更できないこと").isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("正常系 - 同じキーを異なる型で取得できること")
+    void testDifferentType() {
+      // --- setup -----
+      String key = "test.common.ConfigUtilsTest.GetAsInt";
+
+      // --- execute ---
+      int actualInt = ConfigUtils.getAsInt(key);
+      String actualString = ConfigUtils.getAsString(key);
+
+      // --- verify ----
+      assertAll("取得結果検証",
+          () -> assertThat(actualInt).as("int型で取得できること").isEqualTo(99),
+          () -> assertThat(actualString).as("String型で取得できること").isEqualTo("99"));
+    }
+  }
+
+  @DisplayName("reload()のテスト")
+  @Nested
+  class Reload {
+    @Test
+    @DisplayName("正常系 - 設定値が変更された場合は変更後の値を取得でき、リスナーに通知されること")
+    void testChanged() {
+      // --- setup -----
+      String key = "test.common.ConfigUtilsTest.Reload";
+      Set<String> notifiedKeys = new HashSet<>();
+      ConfigChangeListener listener = notifiedKeys::addAll;
+      ConfigUtils.addListener(listener);
+      System.setProperty(key, "reloaded");
+
+      try {
+        // --- execute ---
+        boolean actual = ConfigUtils.reload();
+
+        // --- verify ----
+        assertAll("再読み込み結果検証",
+            () -> assertThat(actual).as("変更ありとなること").isTrue(),
+            () -> assertThat(ConfigUtils.getAsString(key)).as("変更後の値を取得できること").isEqualTo("reloaded"),
+            () -> assertThat(notifiedKeys).as("変更されたキーが通知されること").contains(key));
+
+      } finally {
+        System.clearProperty(key);
+        ConfigUtils.reload();
+        ConfigUtils.removeListener(listener);
+      }
+    }
+
+    @Test
+    @DisplayName("異常系 - フレームワークの設定値の型が不正な場合は設定を差し替えず、リスナーに通知されないこと")
+    void testInvalid() {
+      // --- setup -----
+      String key = "framework.dao.batchSize";
+      int before = ConfigUtils.getAsInt(key);
+      Set<String> notifiedKeys = new HashSet<>();
+      ConfigChangeListener listener = notifiedKeys::addAll;
+      ConfigUtils.addListener(listener);
+      System.setProperty(key, "abc");
+
+      try {
+        // --- execute ---
+        boolean actual = ConfigUtils.reload();
+
+        // --- verify ----
+        assertAll("再読み込み結果検証",
+            () -> assertThat(actual).as("変更なしとなること").isFalse(),
+            () -> assertThat(ConfigUtils.getAsInt(key)).as("現在の設定値を継続して使用すること").isEqualTo(before),
+            () -> assertThat(notifiedKeys).as("通知されないこと").isEmpty());
+
+      } finally {
+        System.clearProperty(key);
+        ConfigUtils.removeListener(listener);
+      }
+    }
+
+    @Test
+    @DisplayName("正常系 - 設定値が変更されていない場合はリスナーに通知されないこと")
+    void testNotChanged() {
+      // --- setup -----
+      Set<String> notifiedKeys = new HashSet<>();
+      ConfigChangeListener listener = notifiedKeys::addAll;
+      ConfigUtils.addListener(listener);
+
+      try {
+        // --- execute ---
+        boolean actual = ConfigUtils.reload();
+
+        // --- verify ----
+        assertAll("再読み込み結果検証",
+            () -> assertThat(actual).as("変更なしとなること").isFalse(),
+            () -> assertThat(notifiedKeys).as("通知されないこと").isEmpty());
+
+      } finally {
+        ConfigUtils.removeListener(listener);
+      }
+    }
+  }
+
+  @DisplayName("writeSnapshot(Path file)のテスト")
+  @Nested
+  class WriteSnapshot {
+    @Test
+    @DisplayName("正常系 - 出力したスナップショットファイルから同じ設定値を読み込めること")
+    void test() throws Exception {
+      // --- setup -----
+      Path file = Files.createTempFile("config", ".snapshot");
+
+      try {
+        // --- execute ---
+        ConfigUtils.writeSnapshot(file);
+        com.typesafe.config.Config actual = ConfigUtils.readSnapshot(file);
+
+        // --- verify ----
+        assertAll("読み込み結果検証",
+            () -> assertThat(actual.getString("sameKey")).as("環境依存の設定値を読み込めること").isEqualTo("application-ut.conf"),
+            () -> assertThat(actual.getInt("test.common.ConfigUtilsTest.GetAsInt")).as("共通の設定値を読み込めること").isEqualTo(99));
+
+      } finally {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
 }
@@ -0,0 +1,169 @@
+package dev.sample.framework.core.data.dao;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dev.sample.framework.test.dto.SampleNameDto;
+import dev.sample.framework.test.dto.SampleProjectionDto;
+import dev.sample.framework.test.entity.SampleEntity;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DtoProjectionTest {
+
+  /** SampleEntityのメタモデル(deptは関連). */
+  private final Metamodel metamodel = metamodel(SampleEntity.class,
+      attribute("id", PersistentAttributeType.BASIC, Long.class),
+      attribute("name", PersistentAttributeType.BASIC, String.class),
+      attribute("age", PersistentAttributeType.BASIC, int.class),
+      attribute("birthday", PersistentAttributeType.BASIC, LocalDate.class),
+      attribute("dept", PersistentAttributeType.MANY_TO_ONE, SampleEntity.class));
+
+  @DisplayName("of(Metamodel metamodel, Class<?> entityType, Class<D> dtoType)のテスト")
+  @Nested
+  class Of {
+    @Test
+    @DisplayName("正常系 - 基本属性で型が一致するプロパティのみを検索対象とすること")
+    void testFields() {
+      // --- execute ---
+      DtoProjection<SampleProjectionDto> projection = DtoProjection.of(metamodel, SampleEntity.class, SampleProjectionDto.class);
+
+      // --- verify ----
+      assertThat(projection.getFields()).as("関連、型不一致、Entityに存在しないプロパティは除外されること")
+          .containsExactlyInAnyOrder("id", "age", "name");
+    }
+
+    @Test
+    @DisplayName("正常系 - 2回目以降はキャッシュを返却すること")
+    void testCache() {
+      // --- execute ---
+      DtoProjection<SampleNameDto> first = DtoProjection.of(metamodel, SampleEntity.class, SampleNameDto.class);
+      DtoProjection<SampleNameDto> second = DtoProjection.of(metamodel, SampleEntity.class, SampleNameDto.class);
+
+      // --- verify ----
+      assertThat(second).as("同一インスタンスが返却されること").isSameAs(first);
+    }
+  }
+
+  @DisplayName("toDto(Object row)のテスト")
+  @Nested
+  class ToDto {
+    @Test
+    @DisplayName("正常系 - 複数カラムの行をDTOに変換すること")
+    void testMultipleColumns() {
+      // --- setup -----
+      DtoProjection<SampleProjectionDto> projection = DtoProjection.of(metamodel, SampleEntity.class, SampleProjectionDto.class);
+      Map<String, Object> values = new HashMap<>();
+      values.put("id", 1L);
+      values.put("age", 20);
+      values.put("name", "hoge");
+
+      // --- execute ---
+      SampleProjectionDto dto = projection.toDto(row(projection.getFields(), values));
+
+      // --- verify ----
+      assertAll("DTO検証",
+          () -> assertThat(dto.getId()).as("IDが設定されること").isEqualTo(1L),
+          () -> assertThat(dto.getAge()).as("プリミティブ型のプロパティが設定されること").isEqualTo(20),
+          () -> assertThat(dto.getName()).as("名前が設定されること").isEqualTo("hoge"),
+          () -> assertThat(dto.getBirthday()).as("型不一致のプロパティは設定されないこと").isNull(),
+          () -> assertThat(dto.getDept()).as("関連のプロパティは設定されないこと").isNull());
+    }
+
+    @Test
+    @DisplayName("正常系 - プリミティブ型のプロパティの値がnullの場合は設定しないこと")
+    void testNullPrimitive() {
+      // --- setup -----
+      DtoProjection<SampleProjectionDto> projection = DtoProjection.of(metamodel, SampleEntity.class, SampleProjectionDto.class);
+      Map<String, Object> values = new HashMap<>();
+      values.put("id", 1L);
+
+      // --- execute ---
+      SampleProjectionDto dto = projection.toDto(row(projection.getFields(), values));
+
+      // --- verify ----
+      assertAll("DTO検証",
+          () -> assertThat(dto.getAge()).as("デフォルト値のままであること").isEqualTo(0),
+          () -> assertThat(dto.getName()).as("nullが設定されること").isNull());
+    }
+
+    @Test
+    @DisplayName("正常系 - 1カラムの行(値そのもの)をDTOに変換すること")
+    void testSingleColumn() {
+      // --- setup -----
+      DtoProjection<SampleNameDto> projection = DtoProjection.of(metamodel, SampleEntity.class, SampleNameDto.class);
+
+      // --- execute ---
+      SampleNameDto dto = projection.toDto("hoge");
+
+      // --- verify ----
+      assertAll("DTO検証",
+          () -> assertThat(projection.getFields()).as("検索対象が1カラムであること").containsExactly("name"),
+          () -> assertThat(dto.getName()).as("名前が設定されること").isEqualTo("hoge"));
+    }
+  }
+
+  /**
+   * 検索対象のカラムの順に行を生成します.
+   */
+  private static Object[] row(List<String> fields, Map<String, Object> values) {
+    return fields.stream().map(values::get).toArray();
+  }
+
+  /**
+   * 属性のみを定義したメタモデルを生成します.
+   */
+  private static Metamodel metamodel(Class<?> entityType, Attribute<?, ?>... attributes) {
+    Map<String, Attribute<?, ?>> attributeMap = new HashMap<>();
+    for (Attribute<?, ?> attribute : attributes) {
+      attributeMap.put(attribute.getName(), attribute);
+    }
+    EntityType<?> entity = (EntityType<?>) Proxy.newProxyInstance(EntityType.class.getClassLoader(), new Class<?>[] {EntityType.class},
+        (proxy, method, args) -> {
+          if ("getAttribute".equals(method.getName())) {
+            if (!attributeMap.containsKey(args[0])) {
+              throw new IllegalArgumentException((String) args[0]);
+            }
+            return attributeMap.get(args[0]);
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+    return (Metamodel) Proxy.newProxyInstance(Metamodel.class.getClassLoader(), new Class<?>[] {Metamodel.class},
+        (proxy, method, args) -> {
+          if ("entity".equals(method.getName()) && entityType.equals(args[0])) {
+            return entity;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  /**
+   * 属性を生成します.
+   */
+  private static Attribute<?, ?> attribute(String name, PersistentAttributeType type, Class<?> javaType) {
+    return (Attribute<?, ?>) Proxy.newProxyInstance(Attribute.class.getClassLoader(), new Class<?>[] {Attribute.class},
+        (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "getName":
+              return name;
+            case "getPersistentAttributeType":
+              return type;
+            case "getJavaType":
+              return javaType;
+            default:
+              throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+}
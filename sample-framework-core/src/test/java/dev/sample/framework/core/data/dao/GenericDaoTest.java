@@ -0,0 +1,458 @@
+package dev.sample.framework.core.data.dao;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dev.sample.framework.core.config.ConfigUtils;
+import dev.sample.framework.core.data.condition.CountMode;
+import dev.sample.framework.core.data.condition.FilterDo;
+import dev.sample.framework.core.data.condition.SearchConditionDo;
+import dev.sample.framework.core.data.condition.SortDo;
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.test.entity.SampleEntity;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GenericDaoTest {
+
+  @DisplayName("find(PK primaryKey)のテスト")
+  @Nested
+  class Find {
+    @Test
+    @DisplayName("正常系 - 読み込みキャッシュにない場合は別のEntityManagerで取得し、呼び出しごとにコピーを返却すること")
+    void testCacheMiss() {
+      // --- setup -----
+      EntityCache.invalidate(SampleEntity.class);
+      SampleEntity committed = SampleEntity.builder().id(1L).name("hoge").age(20).build();
+      List<String> loaderCalls = new ArrayList<>();
+      EntityManager loaderEntityManager = stub(EntityManager.class, loaderCalls, answers("find", args -> committed));
+      List<String> callerCalls = new ArrayList<>();
+      CachedSampleDao dao = new CachedSampleDao(stub(EntityManager.class, callerCalls,
+          answers("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+              answers("createEntityManager", createArgs -> loaderEntityManager)))));
+
+      // --- execute ---
+      SampleEntity first = dao.find(1L);
+      SampleEntity second = dao.find(1L);
+
+      // --- verify ----
+      assertAll("読み込みキャッシュ検証",
+          () -> assertThat(first).as("取得したEntityと同値であること").isEqualTo(committed),
+          () -> assertThat(first).as("取得したEntityのコピーであること").isNotSameAs(committed),
+          () -> assertThat(second).as("キャッシュから同値のEntityを返却すること").isEqualTo(committed),
+          () -> assertThat(second).as("呼び出しごとに別のコピーを返却すること").isNotSameAs(first),
+          () -> assertThat(loaderCalls).as("別のEntityManagerで1回だけ取得し、クローズすること").containsExactly("find", "close"),
+          () -> assertThat(callerCalls).as("呼び出し元のEntityManagerで検索、切り離しをしないこと").doesNotContain("find", "detach"));
+    }
+
+    @Test
+    @DisplayName("正常系 - 呼び出し元の永続性コンテキストの管理対象のEntityを切り離さないこと")
+    void testManaged() {
+      // --- setup -----
+      EntityCache.invalidate(SampleEntity.class);
+      SampleEntity committed = SampleEntity.builder().id(1L).name("hoge").age(20).build();
+      SampleEntity managed = SampleEntity.builder().id(1L).name("hoge").age(20).build();
+      managed.setName("changed");
+      EntityManager loaderEntityManager = stub(EntityManager.class, new ArrayList<>(), answers("find", args -> committed));
+      List<String> callerCalls = new ArrayList<>();
+      Map<String, Function<Object[], Object>> callerAnswers = answers("find", args -> managed);
+      callerAnswers.put("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+          answers("createEntityManager", createArgs -> loaderEntityManager)));
+      CachedSampleDao dao = new CachedSampleDao(stub(EntityManager.class, callerCalls, callerAnswers));
+
+      // --- execute ---
+      SampleEntity actual = dao.find(1L);
+
+      // --- verify ----
+      assertAll("管理対象のEntity検証",
+          () -> assertThat(callerCalls).as("呼び出し元のEntityManagerで切り離しをしないこと").doesNotContain("detach"),
+          () -> assertThat(managed.getName()).as("管理対象のEntityの未反映の変更が残ること").isEqualTo("changed"),
+          () -> assertThat(actual).as("管理対象のEntityを返却しないこと").isNotSameAs(managed),
+          () -> assertThat(actual.getName()).as("キャッシュには未反映の変更を含めないこと").isEqualTo("hoge"));
+    }
+
+    @Test
+    @DisplayName("正常系 - 読み込みキャッシュの対象外の場合は呼び出し元のEntityManagerで取得すること")
+    void testNotCached() {
+      // --- setup -----
+      SampleEntity managed = SampleEntity.builder().id(1L).name("hoge").build();
+      List<String> callerCalls = new ArrayList<>();
+      SampleDao dao = new SampleDao(stub(EntityManager.class, callerCalls, answers("find", args -> managed)));
+
+      // --- execute ---
+      SampleEntity actual = dao.find(1L);
+
+      // --- verify ----
+      assertAll("キャッシュ対象外検証",
+          () -> assertThat(actual).as("管理対象のEntityを返却すること").isSameAs(managed),
+          () -> assertThat(callerCalls).as("呼び出し元のEntityManagerで検索すること").containsExactly("find"));
+    }
+
+    @Test
+    @DisplayName("正常系 - 更新後、コミットまでは同一トランザクションでキャッシュを使用せず、コミット後にキャッシュを破棄すること")
+    void testWriteBeforeCommit() {
+      // --- setup -----
+      EntityCache.invalidate(SampleEntity.class);
+      AtomicReference<SampleEntity> committed = new AtomicReference<>(SampleEntity.builder().id(1L).name("hoge").build());
+      SampleEntity updated = SampleEntity.builder().id(1L).name("changed").build();
+      List<String> loaderCalls = new ArrayList<>();
+      EntityManager loaderEntityManager = stub(EntityManager.class, loaderCalls, answers("find", args -> committed.get()));
+
+      TestTransaction transaction = new TestTransaction(Status.STATUS_ACTIVE);
+      List<String> writerCalls = new ArrayList<>();
+      CachedSampleDao writer = new CachedSampleDao(stub(EntityManager.class, writerCalls, answers("find", args -> updated)), transaction);
+      // 別のトランザクション(並行するリクエスト)
+      CachedSampleDao reader = new CachedSampleDao(stub(EntityManager.class, new ArrayList<>(),
+          answers("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+              answers("createEntityManager", createArgs -> loaderEntityManager)))));
+
+      // --- execute ---
+      writer.update(updated);
+      SampleEntity inTransaction = writer.find(1L);
+      SampleEntity beforeCommit = reader.find(1L);
+      committed.set(updated);
+      transaction.complete(Status.STATUS_COMMITTED);
+      SampleEntity afterCommit = reader.find(1L);
+
+      // --- verify ----
+      assertAll("読み込みキャッシュ検証",
+          () -> assertThat(inTransaction).as("同一トランザクションでは更新内容を参照すること").isSameAs(updated),
+          () -> assertThat(writerCalls).as("同一トランザクションでは呼び出し元のEntityManagerで検索すること").containsExactly("merge", "find"),
+          () -> assertThat(beforeCommit.getName()).as("コミット前は他のトランザクションにはコミット済みのEntityを返却すること").isEqualTo("hoge"),
+          () -> assertThat(afterCommit.getName()).as("コミット後はキャッシュを破棄し、更新後のEntityを返却すること").isEqualTo("changed"),
+          () -> assertThat(loaderCalls).as("コミット前後でそれぞれ取得すること").containsExactly("find", "close", "find", "close"));
+    }
+
+    @Test
+    @DisplayName("正常系 - 設定ファイルの再読み込みで最大保持件数が変更された場合はキャッシュを作り直すこと")
+    void testResize() {
+      // --- setup -----
+      EntityCache.invalidate(SampleEntity.class);
+      String key = "framework.dao.entityCache.SampleEntity.maximumSize";
+      SampleEntity committed = SampleEntity.builder().id(1L).name("hoge").build();
+      List<String> loaderCalls = new ArrayList<>();
+      EntityManager loaderEntityManager = stub(EntityManager.class, loaderCalls, answers("find", args -> committed));
+      CachedSampleDao dao = new CachedSampleDao(stub(EntityManager.class, new ArrayList<>(),
+          answers("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+              answers("createEntityManager", createArgs -> loaderEntityManager)))));
+      dao.find(1L);
+      long before = EntityCache.getStats().get("SampleEntity").requestCount();
+
+      try {
+        // --- execute ---
+        System.setProperty(key, "0");
+        ConfigUtils.reload();
+        dao.find(1L);
+        dao.find(1L);
+
+        // --- verify ----
+        assertAll("キャッシュの作り直し検証",
+            () -> assertThat(loaderCalls).as("作り直し前のキャッシュを破棄し、最大保持件数0では毎回取得すること")
+                .containsExactly("find", "close", "find", "close", "find", "close"),
+            () -> assertThat(EntityCache.getStats().get("SampleEntity").requestCount()).as("統計情報は作り直し前から累計すること")
+                .isEqualTo(before + 2));
+
+      } finally {
+        System.clearProperty(key);
+        ConfigUtils.reload();
+      }
+    }
+  }
+
+  @DisplayName("find(PK primaryKey)のテスト(Serializableでない場合)")
+  @Nested
+  class FindNotSerializable {
+    @Test
+    @DisplayName("異常系 - 読み込みキャッシュの対象のEntityがSerializableでない場合はキャッシュの生成時にSystemExceptionを送出すること")
+    void testNotSerializable() {
+      // --- setup -----
+      List<String> callerCalls = new ArrayList<>();
+      NotSerializableDao dao = new NotSerializableDao(stub(EntityManager.class, callerCalls, new HashMap<>()));
+
+      // --- execute ---
+      SystemException actual = assertThrows(SystemException.class, () -> dao.find(1L));
+
+      // --- verify ----
+      assertAll("例外検証",
+          () -> assertThat(actual.getErrorDto().getMessageId()).as("メッセージID").isEqualTo(CoreMessageId.F0024E),
+          () -> assertThat(actual.getErrorDto().getParams()).as("Entity名").containsExactly(NotSerializableEntity.class.getName()),
+          () -> assertThat(callerCalls).as("検索しないこと").isEmpty());
+    }
+  }
+
+  @DisplayName("delete(E entity)のテスト")
+  @Nested
+  class Delete {
+    @Test
+    @DisplayName("正常系 - 読み込みキャッシュから取得した管理対象外のEntityは管理対象にしてから削除すること")
+    void testDetached() {
+      // --- setup -----
+      EntityCache.invalidate(SampleEntity.class);
+      SampleEntity committed = SampleEntity.builder().id(1L).name("hoge").build();
+      SampleEntity managed = SampleEntity.builder().id(1L).name("hoge").build();
+      EntityManager loaderEntityManager = stub(EntityManager.class, new ArrayList<>(), answers("find", args -> committed));
+      List<String> callerCalls = new ArrayList<>();
+      List<Object> removed = new ArrayList<>();
+      Map<String, Function<Object[], Object>> callerAnswers = answers("contains", args -> args[0] == managed);
+      callerAnswers.put("merge", args -> managed);
+      callerAnswers.put("remove", args -> removed.add(args[0]));
+      callerAnswers.put("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+          answers("createEntityManager", createArgs -> loaderEntityManager)));
+      CachedSampleDao dao = new CachedSampleDao(stub(EntityManager.class, callerCalls, callerAnswers));
+
+      // --- execute ---
+      dao.delete(dao.find(1L));
+
+      // --- verify ----
+      assertAll("削除検証",
+          () -> assertThat(callerCalls).as("管理対象にしてから削除すること").containsSubsequence("contains", "merge", "remove"),
+          () -> assertThat(removed).as("管理対象のEntityを削除すること").containsExactly(managed));
+    }
+
+    @Test
+    @DisplayName("正常系 - 管理対象のEntityはそのまま削除すること")
+    void testManaged() {
+      // --- setup -----
+      SampleEntity managed = SampleEntity.builder().id(1L).name("hoge").build();
+      List<String> callerCalls = new ArrayList<>();
+      List<Object> removed = new ArrayList<>();
+      Map<String, Function<Object[], Object>> callerAnswers = answers("contains", args -> true);
+      callerAnswers.put("remove", args -> removed.add(args[0]));
+      SampleDao dao = new SampleDao(stub(EntityManager.class, callerCalls, callerAnswers));
+
+      // --- execute ---
+      dao.delete(managed);
+
+      // --- verify ----
+      assertAll("削除検証",
+          () -> assertThat(callerCalls).as("管理対象にせずに削除すること").containsExactly("contains", "remove"),
+          () -> assertThat(removed).as("引数のEntityを削除すること").containsExactly(managed));
+    }
+  }
+
+  @DisplayName("stream(SearchConditionDo condition, int fetchSize)のテスト")
+  @Nested
+  class Stream {
+    @Test
+    @DisplayName("正常系 - フェッチサイズ単位に検索し、呼び出し元の検索条件を変更しないこと")
+    void testConditionUnchanged() {
+      // --- setup -----
+      SampleEntity first = SampleEntity.builder().id(1L).name("a").build();
+      SampleEntity second = SampleEntity.builder().id(2L).name("b").build();
+      SampleEntity third = SampleEntity.builder().id(3L).name("c").build();
+      Iterator<List<SampleEntity>> pages = Arrays.asList(Arrays.asList(first, second, third), Arrays.asList(third)).iterator();
+      Query pagedQuery = stub(Query.class, new ArrayList<>(), answers("getResultList", args -> pages.next()));
+      EntityManager streamEntityManager = stub(EntityManager.class, new ArrayList<>(), answers("createQuery", args -> pagedQuery));
+      Map<String, Function<Object[], Object>> entityManagerAnswers = answers("isJoinedToTransaction", args -> false);
+      entityManagerAnswers.put("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+          answers("createEntityManager", createArgs -> streamEntityManager)));
+      SampleDao dao = new SampleDao(stub(EntityManager.class, new ArrayList<>(), entityManagerAnswers));
+
+      Map<String, Object> queryParams = new HashMap<>();
+      queryParams.put("age", 20);
+      List<SortDo> sortList = new ArrayList<>(Arrays.asList(SortDo.builder().field("name").asc(true).build()));
+      SearchConditionDo condition = SearchConditionDo.builder()
+          .filter(FilterDo.builder().offset(10).limit(50).countMode(CountMode.EXACT).build())
+          .sortList(sortList)
+          .queryParams(queryParams)
+          .build();
+
+      // --- execute ---
+      List<SampleEntity> actual = dao.stream(condition, 2).collect(Collectors.toList());
+
+      // --- verify ----
+      assertAll("検索条件検証",
+          () -> assertThat(actual).as("全ページの検索結果を順に返却すること").containsExactly(first, second, third),
+          () -> assertThat(condition.getFilter()).as("フィルターが変更されないこと")
+              .isEqualTo(FilterDo.builder().offset(10).limit(50).countMode(CountMode.EXACT).build()),
+          () -> assertThat(condition.getSortList()).as("ソート順が変更されないこと").containsExactly(SortDo.builder().field("name").asc(true).build()),
+          () -> assertThat(condition.getQueryParams()).as("クエリパラメーターが変更されないこと").containsOnlyKeys("age"),
+          () -> assertThat(condition.getKeysetParams()).as("キーセットページング用パラメーターが設定されないこと").isEmpty(),
+          () -> assertThat(condition.getSearchQuery()).as("検索クエリが設定されないこと").isNull());
+    }
+
+    @Test
+    @DisplayName("正常系 - 別のEntityManagerで検索し、呼び出し元の永続性コンテキストをクリアしないこと")
+    void testCallerNotCleared() {
+      // --- setup -----
+      SampleEntity first = SampleEntity.builder().id(1L).name("a").build();
+      SampleEntity second = SampleEntity.builder().id(2L).name("b").build();
+      Iterator<List<SampleEntity>> pages = Arrays.asList(Arrays.asList(first, second), Arrays.asList(second)).iterator();
+      Query pagedQuery = stub(Query.class, new ArrayList<>(), answers("getResultList", args -> pages.next()));
+      List<String> streamCalls = new ArrayList<>();
+      EntityManager streamEntityManager = stub(EntityManager.class, streamCalls, answers("createQuery", args -> pagedQuery));
+      List<String> callerCalls = new ArrayList<>();
+      Map<String, Function<Object[], Object>> callerAnswers = answers("isJoinedToTransaction", args -> true);
+      callerAnswers.put("getEntityManagerFactory", args -> stub(EntityManagerFactory.class, new ArrayList<>(),
+          answers("createEntityManager", createArgs -> streamEntityManager)));
+      SampleDao dao = new SampleDao(stub(EntityManager.class, callerCalls, callerAnswers));
+      SearchConditionDo condition = SearchConditionDo.builder()
+          .filter(FilterDo.builder().build())
+          .sortList(new ArrayList<>())
+          .queryParams(new HashMap<>())
+          .build();
+      List<List<SampleEntity>> chunks = new ArrayList<>();
+
+      // --- execute ---
+      dao.forEachChunk(condition, 1, chunks::add);
+
+      // --- verify ----
+      assertAll("EntityManager検証",
+          () -> assertThat(chunks).as("フェッチサイズ単位に返却すること").containsExactly(Arrays.asList(first), Arrays.asList(second)),
+          () -> assertThat(callerCalls).as("呼び出し元の変更内容はDBに反映すること").contains("flush"),
+          () -> assertThat(callerCalls).as("呼び出し元のEntityManagerで検索、クリアをしないこと").doesNotContain("createQuery", "clear"),
+          () -> assertThat(streamCalls).as("別のEntityManagerで検索ごとにクリアすること").containsSubsequence("createQuery", "clear", "createQuery"),
+          () -> assertThat(streamCalls).as("読み終えた後に別のEntityManagerをクローズすること").endsWith("close"));
+    }
+  }
+
+  /**
+   * 呼び出したメソッド名を記録し、定義した戻り値を返却するスタブを生成します.
+   */
+  static <T> T stub(Class<T> type, List<String> calls, Map<String, Function<Object[], Object>> answers) {
+    return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+      calls.add(method.getName());
+      Function<Object[], Object> answer = answers.get(method.getName());
+      return answer == null ? null : answer.apply(args);
+    }));
+  }
+
+  static Map<String, Function<Object[], Object>> answers(String methodName, Function<Object[], Object> answer) {
+    Map<String, Function<Object[], Object>> answers = new HashMap<>();
+    answers.put(methodName, answer);
+    return answers;
+  }
+
+  static class SampleDao extends GenericDao<SampleEntity, Long> {
+    private final EntityManager entityManager;
+
+    SampleDao(EntityManager entityManager) {
+      this.entityManager = entityManager;
+    }
+
+    @Override
+    public EntityManager getEntityManager() {
+      return entityManager;
+    }
+
+    @Override
+    public Class<SampleEntity> getEntityType() {
+      return SampleEntity.class;
+    }
+  }
+
+  @ReadThroughCache
+  static class CachedSampleDao extends SampleDao {
+    private final TransactionSynchronizationRegistry registry;
+
+    CachedSampleDao(EntityManager entityManager) {
+      this(entityManager, new TestTransaction(Status.STATUS_NO_TRANSACTION));
+    }
+
+    CachedSampleDao(EntityManager entityManager, TransactionSynchronizationRegistry registry) {
+      super(entityManager);
+      this.registry = registry;
+    }
+
+    @Override
+    protected TransactionSynchronizationRegistry getTransactionSynchronizationRegistry() {
+      return registry;
+    }
+  }
+
+  static class NotSerializableEntity {
+  }
+
+  @ReadThroughCache
+  static class NotSerializableDao extends GenericDao<NotSerializableEntity, Long> {
+    private final EntityManager entityManager;
+
+    NotSerializableDao(EntityManager entityManager) {
+      this.entityManager = entityManager;
+    }
+
+    @Override
+    public EntityManager getEntityManager() {
+      return entityManager;
+    }
+
+    @Override
+    public Class<NotSerializableEntity> getEntityType() {
+      return NotSerializableEntity.class;
+    }
+  }
+
+  /**
+   * 1つのトランザクションを表すTransactionSynchronizationRegistry.
+   */
+  static class TestTransaction implements TransactionSynchronizationRegistry {
+    private final Map<Object, Object> resources = new HashMap<>();
+    private final List<Synchronization> synchronizations = new ArrayList<>();
+    private int status;
+
+    TestTransaction(int status) {
+      this.status = status;
+    }
+
+    void complete(int completionStatus) {
+      status = completionStatus;
+      synchronizations.forEach(synchronization -> synchronization.afterCompletion(completionStatus));
+      resources.clear();
+      status = Status.STATUS_NO_TRANSACTION;
+    }
+
+    @Override
+    public Object getTransactionKey() {
+      return status == Status.STATUS_NO_TRANSACTION ? null : this;
+    }
+
+    @Override
+    public void putResource(Object key, Object value) {
+      resources.put(key, value);
+    }
+
+    @Override
+    public Object getResource(Object key) {
+      return resources.get(key);
+    }
+
+    @Override
+    public void registerInterposedSynchronization(Synchronization sync) {
+      synchronizations.add(sync);
+    }
+
+    @Override
+    public int getTransactionStatus() {
+      return status;
+    }
+
+    @Override
+    public void setRollbackOnly() {
+      status = Status.STATUS_MARKED_ROLLBACK;
+    }
+
+    @Override
+    public boolean getRollbackOnly() {
+      return status == Status.STATUS_MARKED_ROLLBACK;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package dev.sample.framework.core.data.entity;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dev.sample.framework.test.entity.SampleEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EntityMetadataTest {
+
+  @DisplayName("of(Class<?> entityType)のテスト")
+  @Nested
+  class Of {
+    @Test
+    @DisplayName("正常系 - Entityのメタデータ")
+    void testMetadata() {
+      // --- setup -----
+      SampleEntity entity = SampleEntity.builder().id(10L).name("hoge").build();
+
+      // --- execute ---
+      EntityMetadata metadata = EntityMetadata.of(SampleEntity.class);
+
+      // --- verify ----
+      assertAll("メタデータ検証",
+          () -> assertThat(metadata.getIdField().getName()).as("PKのフィールドが解析されること").isEqualTo("id"),
+          () -> assertThat(metadata.isEmbeddedId()).as("複合PKでないこと").isFalse(),
+          () -> assertThat(metadata.isGeneratedValue()).as("自動採番でないこと").isFalse(),
+          () -> assertThat(metadata.getIdFieldNames()).as("PKのプロパティ名が解析されること").containsExactly("id"),
+          () -> assertThat(metadata.getVersionField()).as("バージョンが存在しないこと").isNull(),
+          () -> assertThat((Long) metadata.getId(entity)).as("PKが取得できること").isEqualTo(10L),
+          () -> assertThat(metadata.getVersion(entity)).as("バージョンが存在しない場合はnullとなること").isNull());
+    }
+
+    @Test
+    @DisplayName("正常系 - 2回目以降はキャッシュを返却すること")
+    void testCache() {
+      // --- execute ---
+      EntityMetadata first = EntityMetadata.of(SampleEntity.class);
+      EntityMetadata second = EntityMetadata.of(SampleEntity.class);
+
+      // --- verify ----
+      assertThat(second).as("同一インスタンスが返却されること").isSameAs(first);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package dev.sample.framework.core.logger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LatencyHistogramTest {
+
+  @DisplayName("snapshot(String name)のテスト")
+  @Nested
+  class Snapshot {
+    @Test
+    @DisplayName("正常系 - パーセンタイル値")
+    void testPercentile() {
+      // --- setup -----
+      LatencyHistogram histogram = new LatencyHistogram();
+      for (int i = 1; i <= 1000; i++) {
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(i), i % 100 == 0);
+      }
+
+      // --- execute ---
+      HistogramSnapshot snapshot = histogram.snapshot("hoge");
+
+      // --- verify ----
+      assertAll("統計情報検証",
+          () -> assertThat(snapshot.getCount()).as("件数").isEqualTo(1000L),
+          () -> assertThat(snapshot.getErrorCount()).as("エラー件数").isEqualTo(10L),
+          () -> assertThat(snapshot.getMean()).as("平均値").isEqualTo(500500d),
+          () -> assertThat(snapshot.getP50()).as("50パーセンタイル値(誤差6.25%以内)").isBetween(500000L, 531250L),
+          () -> assertThat(snapshot.getP99()).as("99パーセンタイル値(誤差6.25%以内)").isBetween(990000L, 1000000L),
+          () -> assertThat(snapshot.getMax()).as("最大値").isEqualTo(1000000L));
+    }
+
+    @Test
+    @DisplayName("正常系 - 記録なし")
+    void testEmpty() {
+      // --- execute ---
+      HistogramSnapshot snapshot = new LatencyHistogram().snapshot("hoge");
+
+      // --- verify ----
+      assertAll("統計情報検証",
+          () -> assertThat(snapshot.getCount()).as("件数").isZero(),
+          () -> assertThat(snapshot.getP999()).as("99.9パーセンタイル値").isZero());
+    }
+  }
+
+  @DisplayName("intervalSnapshot(String name)のテスト")
+  @Nested
+  class IntervalSnapshot {
+    @Test
+    @DisplayName("正常系 - 前回呼び出し時からの統計情報")
+    void testInterval() {
+      // --- setup -----
+      LatencyHistogram histogram = new LatencyHistogram();
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(10L), false);
+      histogram.intervalSnapshot("hoge");
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(20L), true);
+
+      // --- execute ---
+      HistogramSnapshot snapshot = histogram.intervalSnapshot("hoge");
+
+      // --- verify ----
+      assertAll("統計情報検証",
+          () -> assertThat(snapshot.getCount()).as("前回呼び出し時以降の件数").isEqualTo(1L),
+          () -> assertThat(snapshot.getErrorCount()).as("前回呼び出し時以降のエラー件数").isEqualTo(1L),
+          () -> assertThat(snapshot.getP50()).as("前回呼び出し時以降の50パーセンタイル値").isEqualTo(20000L));
+    }
+  }
+}
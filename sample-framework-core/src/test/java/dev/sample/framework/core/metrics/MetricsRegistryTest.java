@@ -0,0 +1,78 @@
+package dev.sample.framework.core.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MetricsRegistryTest {
+
+  @DisplayName("scrape()のテスト")
+  @Nested
+  class Scrape {
+    @Test
+    @DisplayName("正常系 - Prometheusテキスト形式")
+    void testScrape() {
+      // --- setup -----
+      MetricsRegistry.counter("test_requests_total", "Test requests.", "path", "/hoge").add(3L);
+      MetricsRegistry.counter("test_requests_total", "Test requests.", "path", "/foo\"bar").increment();
+      MetricsRegistry.gauge("test_queue_depth", "Test queue depth.", () -> 5d);
+
+      // --- execute ---
+      String text = MetricsRegistry.scrape();
+
+      // --- verify ----
+      assertAll("出力検証",
+          () -> assertThat(text).as("HELP、TYPEはメトリクス名ごとに1回出力されること")
+              .containsOnlyOnce("# HELP test_requests_total Test requests.\n# TYPE test_requests_total counter\n"),
+          () -> assertThat(text).as("ラベルごとに値が出力されること").contains("test_requests_total{path=\"/hoge\"} 3\n"),
+          () -> assertThat(text).as("ラベル値はエスケープされること").contains("test_requests_total{path=\"/foo\\\"bar\"} 1\n"),
+          () -> assertThat(text).as("ゲージの値が出力されること").contains("test_queue_depth 5\n"));
+    }
+
+    @Test
+    @DisplayName("正常系 - 関数カウンターはcounterとして出力されること")
+    void testFunctionCounter() {
+      // --- setup -----
+      MetricsRegistry.functionCounter("test_cache_hits_total", "Test cache hits.", () -> 7L, "cache", "hoge");
+
+      // --- execute ---
+      String text = MetricsRegistry.scrape();
+
+      // --- verify ----
+      assertAll("出力検証",
+          () -> assertThat(text).as("TYPEがcounterであること").contains("# TYPE test_cache_hits_total counter\n"),
+          () -> assertThat(text).as("取得処理の値が出力されること").contains("test_cache_hits_total{cache=\"hoge\"} 7\n"));
+    }
+
+    @Test
+    @DisplayName("正常系 - タイマーの合計は記録した処理時間の合計であること")
+    void testTimerSum() {
+      // --- setup -----
+      Timer timer = MetricsRegistry.timer("test_timer_seconds", "Test timer.");
+      timer.record(1_500_000_000L);
+      timer.record(500_000_000L, true);
+
+      // --- execute ---
+      String text = MetricsRegistry.scrape();
+
+      // --- verify ----
+      assertAll("出力検証",
+          () -> assertThat(text).as("合計(秒)が出力されること").contains("test_timer_seconds_sum 2\n"),
+          () -> assertThat(text).as("記録回数が出力されること").contains("test_timer_seconds_count 2\n"));
+    }
+
+    @Test
+    @DisplayName("異常系 - 異なる種類のメトリクスを同一名で登録")
+    void testTypeMismatch() {
+      // --- setup -----
+      MetricsRegistry.counter("test_mismatch", "Test mismatch.");
+
+      // --- execute & verify ---
+      assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.timer("test_mismatch", "Test mismatch."));
+    }
+  }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import dev.sample.common.code.CodeVo;
 import dev.sample.common.code.GenderVo;
 import dev.sample.framework.test.dto.MultipleTypeDto;
+import dev.sample.framework.test.dto.StringTypeDto;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.sql.Timestamp;
@@ -13,6 +14,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -154,6 +157,92 @@ class BeanUtilsExtTest {
   }
 
 
+  @DisplayName("copyProperties(Class<T> type, final Object orig)のテスト(型変換)")
+  @Nested
+  class CopyPropertiesConvert {
+    @Test
+    @DisplayName("正常系 - 型が異なるプロパティは変換してコピーされること")
+    void testConvert() {
+      // --- setup -----
+      StringTypeDto origDto = StringTypeDto.builder()
+          .intValue("99999")
+          .longWrapperValue("9999999999")
+          .bigDecimalValue("0.333333")
+          .stringValue("xyz")
+          .build();
+
+      // --- execute ---
+      MultipleTypeDto result = BeanUtilsExt.copyProperties(MultipleTypeDto.class, origDto);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(result.getIntValue()).as("int型に変換されること").isEqualTo(99999),
+          () -> assertThat(result.getLongWrapperValue()).as("Long型に変換されること").isEqualTo(9999999999L),
+          () -> assertThat(result.getBigDecimalValue()).as("BigDecimal型に変換されること").isEqualTo(new BigDecimal("0.333333")),
+          () -> assertThat(result.getStringValue()).as("コピー元・先のインスタンスが一致すること").isSameAs(origDto.getStringValue()),
+          () -> assertThat(result.getDateValue()).as("コピー元に存在しないプロパティはコピーされないこと").isNull());
+    }
+
+    @Test
+    @DisplayName("正常系 - nullはnullのままコピーされること")
+    void testNull() {
+      // --- setup -----
+      StringTypeDto origDto = StringTypeDto.builder().intValue("1").build();
+      MultipleTypeDto dest = MultipleTypeDto.builder().longWrapperValue(1L).stringValue("abc").build();
+
+      // --- execute ---
+      BeanUtilsExt.copyProperties(dest, origDto);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(dest.getIntValue()).as("int型に変換されること").isEqualTo(1),
+          () -> assertThat(dest.getLongWrapperValue()).as("nullがコピーされること").isNull(),
+          () -> assertThat(dest.getStringValue()).as("nullがコピーされること").isNull());
+    }
+  }
+
+
+  @DisplayName("copyPropertiesList(Class<T> type, final Collection<?> origList)のテスト")
+  @Nested
+  class CopyPropertiesList {
+    @Test
+    @DisplayName("正常系 - 全ての要素がコピーされること")
+    void testCopyList() {
+      // --- setup -----
+      List<MultipleTypeDto> origList = Arrays.asList(
+          MultipleTypeDto.builder().intValue(1).stringValue("a").build(),
+          MultipleTypeDto.builder().intValue(2).stringValue("b").build());
+
+      // --- execute ---
+      List<MultipleTypeDto> result = BeanUtilsExt.copyPropertiesList(MultipleTypeDto.class, origList);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(result).as("コピーした全ての要素（値）が一致すること").isEqualTo(origList),
+          () -> assertThat(result.get(0)).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(origList.get(0)),
+          () -> assertThat(result.get(1)).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(origList.get(1)));
+    }
+
+    @Test
+    @DisplayName("正常系 - クラスが異なる要素が混在する場合もコピーされること")
+    void testCopyMixedList() {
+      // --- setup -----
+      List<Object> origList = Arrays.asList(
+          MultipleTypeDto.builder().intValue(1).build(),
+          StringTypeDto.builder().intValue("2").build());
+
+      // --- execute ---
+      List<MultipleTypeDto> result = BeanUtilsExt.copyPropertiesList(MultipleTypeDto.class, origList);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(result).as("要素数が一致すること").hasSize(2),
+          () -> assertThat(result.get(0).getIntValue()).as("値が一致すること").isEqualTo(1),
+          () -> assertThat(result.get(1).getIntValue()).as("変換した値が一致すること").isEqualTo(2));
+    }
+  }
+
+
   @DisplayName("deepCopy(final T orig)のテスト")
   @Nested
   class DeepCopy {
@@ -255,20 +344,20 @@ class BeanUtilsExtTest {
 
           // インスタンス検証
           () -> assertThat(result).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(origDto),
-          () -> assertThat(booleanWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getBooleanWrapperValue()),
-          () -> assertThat(byteWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getByteWrapperValue()),
-          () -> assertThat(charWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getCharWrapperValue()),
-          () -> assertThat(shortWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getShortWrapperValue()),
-          () -> assertThat(intWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getIntWrapperValue()),
-          () -> assertThat(longWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getLongWrapperValue()),
-          () -> assertThat(floatWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getFloatWrapperValue()),
-          () -> assertThat(doubleWrapperValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getDoubleWrapperValue()),
-
-          () -> assertThat(stringValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getStringValue()),
+          () -> assertThat(result.getBooleanWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(booleanWrapperValue),
+          () -> assertThat(result.getByteWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(byteWrapperValue),
+          () -> assertThat(result.getCharWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(charWrapperValue),
+          () -> assertThat(result.getShortWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(shortWrapperValue),
+          () -> assertThat(result.getIntWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(intWrapperValue),
+          () -> assertThat(result.getLongWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(longWrapperValue),
+          () -> assertThat(result.getFloatWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(floatWrapperValue),
+          () -> assertThat(result.getDoubleWrapperValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(doubleWrapperValue),
+
+          () -> assertThat(result.getStringValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(stringValue),
           () -> assertThat(dateValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getDateValue()),
-          () -> assertThat(localDateValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getLocalDateValue()),
-          () -> assertThat(localTimeValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getLocalTimeValue()),
-          () -> assertThat(localDateTimeValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getLocalDateTimeValue()),
+          () -> assertThat(result.getLocalDateValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(localDateValue),
+          () -> assertThat(result.getLocalTimeValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(localTimeValue),
+          () -> assertThat(result.getLocalDateTimeValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(localDateTimeValue),
 
           () -> assertThat(arrayValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getArrayValue()),
           () -> assertThat(listValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getListValue()),
@@ -276,7 +365,62 @@ class BeanUtilsExtTest {
           () -> assertThat(setValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getSetValue()),
 
           () -> assertThat(timestampValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getTimestampValue()),
-          () -> assertThat(bigDecimalValue).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(result.getBigDecimalValue()));
+          () -> assertThat(result.getBigDecimalValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(bigDecimalValue),
+          () -> assertThat(result.getCodeValue()).as("不変な値はコピー元・先のインスタンスが一致すること").isSameAs(codeValue));
+    }
+
+    @Test
+    @DisplayName("正常系 - 要素のBeanもdeep copyされること")
+    void testNestedBean() {
+      // --- setup -----
+      MultipleTypeDto element = MultipleTypeDto.builder().intValue(1).dateValue(new Date()).build();
+      ArrayList<MultipleTypeDto> origList = new ArrayList<>();
+      origList.add(element);
+      origList.add(element);
+
+      // --- execute ---
+      ArrayList<MultipleTypeDto> result = BeanUtilsExt.deepCopy(origList);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(result).as("コピーした全ての要素（値）が一致すること").isEqualTo(origList),
+          () -> assertThat(result.get(0)).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(element),
+          () -> assertThat(result.get(0).getDateValue()).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(element.getDateValue()),
+          () -> assertThat(result.get(1)).as("同一インスタンスへの参照はコピー後も同一インスタンスとなること").isSameAs(result.get(0)));
+    }
+
+    @Test
+    @DisplayName("正常系 - 循環参照がコピーされること")
+    void testCycle() {
+      // --- setup -----
+      ArrayList<Object> origList = new ArrayList<>();
+      origList.add("element");
+      origList.add(origList);
+
+      // --- execute ---
+      ArrayList<Object> result = BeanUtilsExt.deepCopy(origList);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(result).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(origList),
+          () -> assertThat(result.get(0)).as("値が一致すること").isEqualTo("element"),
+          () -> assertThat(result.get(1)).as("循環参照がコピー先を参照すること").isSameAs(result));
+    }
+
+    @Test
+    @DisplayName("正常系 - コピー方法が不明な型はシリアライズによりコピーされること")
+    void testFallback() {
+      // --- setup -----
+      List<String> listValue = Collections.unmodifiableList(new ArrayList<>(Arrays.asList("abc", "XYZ")));
+      MultipleTypeDto origDto = MultipleTypeDto.builder().listValue(listValue).build();
+
+      // --- execute ---
+      MultipleTypeDto result = BeanUtilsExt.deepCopy(origDto);
+
+      // --- verify ----
+      assertAll("コピー結果検証",
+          () -> assertThat(result).as("コピーした全ての属性（値）が一致すること").isEqualTo(origDto),
+          () -> assertThat(result.getListValue()).as("コピー元・先のインスタンスが不一致となること").isNotSameAs(listValue));
     }
   }
 }
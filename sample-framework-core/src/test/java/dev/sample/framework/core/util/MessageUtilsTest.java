@@ -0,0 +1,58 @@
+package dev.sample.framework.core.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.message.MessageId;
+import java.text.MessageFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MessageUtilsTest {
+
+  @DisplayName("getMessage(MessageId messageId, String... params)のテスト")
+  @Nested
+  class GetMessage {
+    @Test
+    @DisplayName("正常系 - パラメーターの置換")
+    void testParams() {
+      // --- execute ---
+      String message = MessageUtils.getMessage(CoreMessageId.F0013D, "hoge", "foo", "bar");
+
+      // --- verify ----
+      assertThat(message).as("パラメーターが置換されること").isEqualTo("hoge start foo bar");
+    }
+
+    @Test
+    @DisplayName("正常系 - パラメーター不足・nullの場合はMessageFormatと同一の結果")
+    void testMissingParams() {
+      // --- execute ---
+      String missing = MessageUtils.getMessage(CoreMessageId.F0013D, "hoge");
+      String nullParam = MessageUtils.getMessage(CoreMessageId.F0013D, "hoge", null, "bar");
+
+      // --- verify ----
+      assertAll("メッセージ検証",
+          () -> assertThat(missing).as("未指定のパラメーターはそのまま出力されること")
+              .isEqualTo(MessageFormat.format("{0} start {1} {2}", "hoge")),
+          () -> assertThat(nullParam).as("nullのパラメーターは「null」と出力されること")
+              .isEqualTo(MessageFormat.format("{0} start {1} {2}", "hoge", null, "bar")));
+    }
+
+    @Test
+    @DisplayName("正常系 - enum以外のメッセージID")
+    void testNotEnumMessageId() {
+      // --- setup -----
+      MessageId messageId = () -> "F0013D";
+
+      // --- execute ---
+      String message = MessageUtils.getMessage(messageId, "hoge", "foo", "bar");
+
+      // --- verify ----
+      assertThat(message).as("enumのメッセージIDと同一のメッセージとなること")
+          .isEqualTo(MessageUtils.getMessage(CoreMessageId.F0013D, "hoge", "foo", "bar"));
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package dev.sample.framework.core.util;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import dev.sample.framework.core.data.condition.FilterDo;
+import dev.sample.framework.core.data.condition.PredicateDo;
+import dev.sample.framework.core.data.condition.SearchConditionDo;
+import dev.sample.framework.core.data.condition.SortDo;
+import dev.sample.framework.core.exception.ApplicationException;
+import dev.sample.framework.core.exception.dto.ErrorMessage;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.test.entity.SampleEntity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBuilderTest {
+
+  @DisplayName("buildQuery(Class<E> entity, SearchConditionDo searchCondition)のテスト")
+  @Nested
+  class BuildQuery {
+    @Test
+    @DisplayName("正常系 - 条件・ソートを指定した場合のクエリ")
+    void testWhereAndOrderBy() {
+      // --- setup -----
+      Map<String, Object> queryParams = new LinkedHashMap<>();
+      queryParams.put("name", "hoge");
+      queryParams.put("age", 20);
+      List<SortDo> sortList = new ArrayList<>();
+      sortList.add(SortDo.builder().field("name").asc(false).build());
+      SearchConditionDo condition = SearchConditionDo.builder().queryParams(queryParams).sortList(sortList).build();
+
+      // --- execute ---
+      QueryBuilder.buildQuery(SampleEntity.class, condition);
+
+      // --- verify ----
+      assertAll("クエリ検証",
+          () -> assertThat(condition.getCountQuery()).as("検索件数取得クエリが構築されること")
+              .isEqualTo("SELECT COUNT(e) FROM SampleEntity e WHERE e.name = :name AND e.age = :age "),
+          () -> assertThat(condition.getSearchQuery()).as("検索結果取得クエリが構築されること")
+              .isEqualTo("SELECT e FROM SampleEntity e WHERE e.name = :name AND e.age = :age ORDER BY e.name DESC"));
+    }
+
+    @Test
+    @DisplayName("正常系 - キーセットページング(先頭ページ)のクエリ")
+    void testKeysetFirstPage() {
+      // --- setup -----
+      List<SortDo> sortList = new ArrayList<>();
+      sortList.add(SortDo.builder().field("name").build());
+      SearchConditionDo condition = SearchConditionDo.builder()
+          .filter(FilterDo.builder().keyset(true).build())
+          .sortList(sortList)
+          .build();
+
+      // --- execute ---
+      QueryBuilder.buildQuery(SampleEntity.class, condition);
+
+      // --- verify ----
+      assertAll("クエリ検証",
+          () -> assertThat(condition.getSearchQuery()).as("IDがソート順に追加されること")
+              .isEqualTo("SELECT e FROM SampleEntity e ORDER BY e.name, e.id"),
+          () -> assertThat(condition.getKeysetParams()).as("キーセットのパラメーターが空であること").isEmpty());
+    }
+
+    @Test
+    @DisplayName("正常系 - キーセットページング(2ページ目以降)のクエリ")
+    void testKeysetNextPage() {
+      // --- setup -----
+      Map<String, Object> queryParams = new LinkedHashMap<>();
+      queryParams.put("age", 20);
+      List<SortDo> sortList = new ArrayList<>();
+      sortList.add(SortDo.builder().field("name").asc(false).build());
+      SearchConditionDo condition = SearchConditionDo.builder()
+          .filter(FilterDo.builder().keyset(true).lastKeys(Arrays.asList("hoge", 10L)).build())
+          .sortList(sortList)
+          .queryParams(queryParams)
+          .build();
+
+      // --- execute ---
+      QueryBuilder.buildQuery(SampleEntity.class, condition);
+
+      // --- verify ----
+      assertAll("クエリ検証",
+          () -> assertThat(condition.getCountQuery()).as("検索件数取得クエリにはキーセットの条件が含まれないこと")
+              .isEqualTo("SELECT COUNT(e) FROM SampleEntity e WHERE e.age = :age "),
+          () -> assertThat(condition.getSearchQuery()).as("キーセットの条件が展開されること")
+              .isEqualTo("SELECT e FROM SampleEntity e WHERE e.age = :age AND e.name <= :keyset0 AND "
+                  + "((e.name < :keyset0) OR (e.name = :keyset0 AND e.id > :keyset1)) ORDER BY e.name DESC, e.id"),
+          () -> assertThat(condition.getKeysetParams()).as("キーセットのパラメーターが格納されること")
+              .containsEntry("keyset0", "hoge")
+              .containsEntry("keyset1", 10L));
+    }
+  }
+
+  @DisplayName("buildQuery(Class<E> entity, List<String> selectFields, SearchConditionDo searchCondition)のテスト")
+  @Nested
+  class BuildQueryProjection {
+    @Test
+    @DisplayName("正常系 - 射影クエリ")
+    void testProjection() {
+      // --- setup -----
+      Map<String, Object> queryParams = new LinkedHashMap<>();
+      queryParams.put("age", 20);
+      SearchConditionDo condition = SearchConditionDo.builder().queryParams(queryParams).build();
+
+      // --- execute ---
+      QueryBuilder.buildQuery(SampleEntity.class, Arrays.asList("id", "name"), condition);
+
+      // --- verify ----
+      assertAll("クエリ検証",
+          () -> assertThat(condition.getCountQuery()).as("検索件数取得クエリはEntity検索と同一であること")
+              .isEqualTo("SELECT COUNT(e) FROM SampleEntity e WHERE e.age = :age "),
+          () -> assertThat(condition.getSearchQuery()).as("指定したプロパティのみを取得するクエリが構築されること")
+              .isEqualTo("SELECT e.id, e.name FROM SampleEntity e WHERE e.age = :age "));
+    }
+  }
+
+  @DisplayName("buildFindAllQuery(Class<E> entity)のテスト")
+  @Nested
+  class BuildFindAllQuery {
+    @Test
+    @DisplayName("正常系 - IDのリストによる一括検索クエリ")
+    void testFindAllQuery() {
+      // --- execute ---
+      String query = QueryBuilder.buildFindAllQuery(SampleEntity.class);
+
+      // --- verify ----
+      assertThat(query).as("IDのIN条件のクエリが構築されること").isEqualTo("SELECT e FROM SampleEntity e WHERE e.id IN :ids");
+    }
+  }
+
+  @DisplayName("buildQuery(Class<E> entity, SearchConditionDo searchCondition)のテスト - 検索条件(述語)")
+  @Nested
+  class BuildQueryPredicates {
+    @Test
+    @DisplayName("正常系 - 検索条件(述語)がバインド変数を用いた条件節に展開されること")
+    void testPredicates() {
+      // --- setup -----
+      Map<String, Object> queryParams = new LinkedHashMap<>();
+      queryParams.put("name", "hoge");
+      List<PredicateDo> predicates = new ArrayList<>();
+      predicates.add(PredicateDo.between("age", 10, 20));
+      predicates.add(PredicateDo.in("id", Arrays.asList(1L, 2L)));
+      predicates.add(PredicateDo.or(PredicateDo.startsWith("name", "a_b"), PredicateDo.isNull("birthday")));
+      SearchConditionDo condition = SearchConditionDo.builder().queryParams(queryParams).predicates(predicates).build();
+
+      // --- execute ---
+      QueryBuilder.buildQuery(SampleEntity.class, condition);
+
+      // --- verify ----
+      assertAll("クエリ検証",
+          () -> assertThat(condition.getCountQuery()).as("検索件数取得クエリが構築されること")
+              .isEqualTo("SELECT COUNT(e) FROM SampleEntity e WHERE e.name = :name AND e.age BETWEEN :pred0 AND :pred1 "
+                  + "AND e.id IN :pred2 AND (e.name LIKE :pred3 ESCAPE '\\' OR e.birthday IS NULL) "),
+          () -> assertThat(condition.getPredicateParams()).as("パラメーターが格納されること")
+              .containsEntry("pred0", 10)
+              .containsEntry("pred1", 20)
+              .containsEntry("pred2", Arrays.asList(1L, 2L))
+              .containsEntry("pred3", "a\\_b%"));
+    }
+
+    @Test
+    @DisplayName("異常系 - プロパティの型に変換できない値の場合はApplicationExceptionを送出すること")
+    void testInvalidValue() {
+      // --- setup -----
+      SearchConditionDo gtCondition = SearchConditionDo.builder()
+          .predicates(new ArrayList<>(Arrays.asList(PredicateDo.gt("age", "abc")))).build();
+      SearchConditionDo inCondition = SearchConditionDo.builder()
+          .predicates(new ArrayList<>(Arrays.asList(PredicateDo.in("id", Arrays.asList("1", "x"))))).build();
+      SearchConditionDo keysetCondition = SearchConditionDo.builder()
+          .filter(FilterDo.builder().keyset(true).lastKeys(Arrays.asList("abc")).build())
+          .sortList(new ArrayList<>())
+          .build();
+
+      // --- execute ---
+      ApplicationException gt = assertThrows(ApplicationException.class, () -> QueryBuilder.buildQuery(SampleEntity.class, gtCondition));
+      ApplicationException in = assertThrows(ApplicationException.class, () -> QueryBuilder.buildQuery(SampleEntity.class, inCondition));
+      ApplicationException keyset = assertThrows(ApplicationException.class,
+          () -> QueryBuilder.buildQuery(SampleEntity.class, keysetCondition));
+
+      // --- verify ----
+      assertAll("例外検証",
+          () -> assertThat(gt.getErrorList()).as("比較条件の値").extracting(ErrorMessage::getMessageId).containsExactly(CoreMessageId.F0017E),
+          () -> assertThat(gt.getErrorList().get(0).getParams()).as("項目と値").containsExactly("age:abc"),
+          () -> assertThat(in.getErrorList().get(0).getParams()).as("IN条件の値").containsExactly("id:x"),
+          () -> assertThat(keyset.getErrorList().get(0).getParams()).as("カーソルの値").containsExactly("id:abc"));
+    }
+  }
+
+  @DisplayName("getQueryCacheStats()のテスト")
+  @Nested
+  class GetQueryCacheStats {
+    @Test
+    @DisplayName("正常系 - 同一形状のクエリはキャッシュから取得されること")
+    void testCacheHit() {
+      // --- setup -----
+      Map<String, Object> queryParams1 = new LinkedHashMap<>();
+      queryParams1.put("name", "hoge");
+      Map<String, Object> queryParams2 = new LinkedHashMap<>();
+      queryParams2.put("name", "fuga");
+      SearchConditionDo condition1 = SearchConditionDo.builder().queryParams(queryParams1).build();
+      SearchConditionDo condition2 = SearchConditionDo.builder().queryParams(queryParams2).build();
+      QueryBuilder.buildQuery(SampleEntity.class, condition1);
+      long hitCount = QueryBuilder.getQueryCacheStats().hitCount();
+
+      // --- execute ---
+      QueryBuilder.buildQuery(SampleEntity.class, condition2);
+
+      // --- verify ----
+      assertAll("キャッシュ検証",
+          () -> assertThat(QueryBuilder.getQueryCacheStats().hitCount()).as("キャッシュにヒットすること").isEqualTo(hitCount + 1),
+          () -> assertThat(condition2.getSearchQuery()).as("同一のクエリが返却されること").isSameAs(condition1.getSearchQuery()));
+    }
+  }
+
+}
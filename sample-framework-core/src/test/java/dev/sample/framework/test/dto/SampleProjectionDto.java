@@ -0,0 +1,22 @@
+package dev.sample.framework.test.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class SampleProjectionDto implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private Long id;
+  private int age;
+  private String name;
+  private String birthday;
+  private Object dept;
+  private String note;
+}
@@ -0,0 +1,20 @@
+package dev.sample.framework.test.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+public class StringTypeDto implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private String intValue;
+  private String longWrapperValue;
+  private String bigDecimalValue;
+  private String stringValue;
+}
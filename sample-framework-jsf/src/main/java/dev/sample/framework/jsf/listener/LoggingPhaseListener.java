@@ -1,5 +1,6 @@
 package dev.sample.framework.jsf.listener;
 
+import dev.sample.framework.core.metrics.MetricsRegistry;
 import javax.faces.event.PhaseEvent;
 import javax.faces.event.PhaseId;
 import javax.faces.event.PhaseListener;
@@ -16,6 +17,12 @@ public class LoggingPhaseListener implements PhaseListener {
   /** serialVersionUID. */
   private static final long serialVersionUID = 1L;
 
+  /** FacesContext属性：Phase開始時刻(ナノ秒). */
+  private static final String START_NANOS = LoggingPhaseListener.class.getName() + ".startNanos";
+
+  /** メトリクス名：Phase処理時間. */
+  private static final String METRIC_PHASE = "framework_jsf_phase_seconds";
+
   /**
    * Phase前処理.
    *
@@ -24,6 +31,7 @@ public class LoggingPhaseListener implements PhaseListener {
   @Override
   public void beforePhase(PhaseEvent event) {
     log.debug("<-------- {} - Before Phase -------->", StringUtils.rightPad(event.getPhaseId().toString(), 25));
+    event.getFacesContext().getAttributes().put(START_NANOS, System.nanoTime());
   }
 
   /**
@@ -34,6 +42,11 @@ public class LoggingPhaseListener implements PhaseListener {
   @Override
   public void afterPhase(PhaseEvent event) {
     log.debug("<-------- {} - After Phase  -------->", StringUtils.rightPad(event.getPhaseId().toString(), 25));
+    Object startNanos = event.getFacesContext().getAttributes().remove(START_NANOS);
+    if (startNanos instanceof Long) {
+      MetricsRegistry.timer(METRIC_PHASE, "JSF phase time in seconds.", "phase", event.getPhaseId().toString())
+          .record(System.nanoTime() - (Long) startNanos);
+    }
   }
 
   /**
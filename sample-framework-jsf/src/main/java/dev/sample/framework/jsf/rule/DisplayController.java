@@ -2,21 +2,18 @@ package dev.sample.framework.jsf.rule;
 
 import dev.sample.framework.core.util.CdiUtils;
 import java.io.Serializable;
-import java.util.HashSet;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.faces.view.ViewScoped;
 import javax.inject.Named;
-import com.typesafe.config.ConfigBeanFactory;
-import com.typesafe.config.ConfigFactory;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 表示制御.
  * 設定ファイルと制御仕様に従い表示制御を実施し、制御状態を管理します.
+ * 設定ファイルはイベントごとに{@link DisplayRuleTable}に変換して全画面で共有するため、画面ごとには制御状態のみを保持します.
+ * ルールは{@link RuleDispatcher}で呼び出し、ルールの判定結果は制御実行ごとにメモ化します.
  */
 @ViewScoped
 @Named
@@ -24,12 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 public class DisplayController implements Serializable {
   /** serialVersionUID. */
   private static final long serialVersionUID = -8315191336035099075L;
-  /** 設定ファイル名. */
-  private static final String RULE_CONFIG_NAME = "displayRule";
-  /** キー情報：制御仕様番号（親）. */
-  private static final String KEY_CTR_SPEC_PR_NOS = ".controlSpecParentNos";
-  /** キー情報：制御仕様. */
-  private static final String KEY_CTR_ITEMS = ".controlItems";
 
   /** ルール・条件クラス. */
   private Class<? extends RuleConditions> ruleClass;
@@ -75,116 +66,28 @@ public class DisplayController implements Serializable {
 
   /**
    * 制御実行.
+   * ルールの判定結果は1回の制御実行内でのみ再利用し、制御実行ごとにルールを判定し直します.
    *
    * @param eventName イベント名
    */
   public void doControl(String eventName) {
-    List<String> specParentNoList = ConfigFactory.load(RULE_CONFIG_NAME).getStringList(eventName + KEY_CTR_SPEC_PR_NOS);
-    log.debug("The control specification to execute is {}", specParentNoList);
+    DisplayRuleTable table = DisplayRuleTable.of(eventName);
+    log.debug("The control specification to execute is {}", table.getSpecParentNos());
 
     RuleConditions rule = CdiUtils.getBean(ruleClass);
-    Set<String> matchedSpecNoSet = new HashSet<>();
-    String matchedSpecNo = null;
-    for (String specParentNo : specParentNoList) {
-      matchedSpecNo = doExecute(rule, specParentNo);
+    Map<String, String> results = new HashMap<>();
+    RuleDispatcher.of(ruleClass).evaluate(rule, table.getSpecParentNos(), results);
+
+    boolean[] matches = table.newMatches();
+    for (String specParentNo : table.getSpecParentNos()) {
+      String matchedSpecNo = results.get(specParentNo);
       if (matchedSpecNo != null) {
-        matchedSpecNoSet.add(matchedSpecNo);
+        log.debug("Matched control specification is {}", matchedSpecNo);
+        table.match(matches, matchedSpecNo);
       }
     }
-    log.debug("Matched control specification is {}", matchedSpecNoSet);
 
-    Map<String, ControlSpecifications> specMap = load(eventName);
-    organizeControlContents(rule, specMap, matchedSpecNoSet);
+    table.apply(rule, matches, controlContents);
     log.debug("Control contents is {}", controlContents);
   }
-
-  /**
-   * 設定ファイルの制御仕様を元に制御仕様Mapを返します.
-   *
-   * @param eventName イベント名
-   * @return 制御仕様Map
-   */
-  private Map<String, ControlSpecifications> load(final String eventName) {
-    Map<String, ControlSpecifications> specMap = new ConcurrentHashMap<>();
-    for (String controlItem : ConfigFactory.load(RULE_CONFIG_NAME).getStringList(eventName + KEY_CTR_ITEMS)) {
-      ControlSpecifications ruleContents = ConfigBeanFactory.create(ConfigFactory.load(RULE_CONFIG_NAME).getConfig(controlItem), ControlSpecifications.class);
-      specMap.put(controlItem, ruleContents);
-    }
-
-    return specMap;
-  }
-
-  /**
-   * 制御仕様を実行し、条件に該当した制御仕様番号を返します.
-   *
-   * @param conditions ルール・条件
-   * @param specParentNo 制御仕様番号（親）
-   * @return 条件に該当した制御仕様番号
-   */
-  private String doExecute(RuleConditions conditions, final String specParentNo) {
-    String matchedSpecNo = null;
-    switch (specParentNo) {
-      case SpecNo.NO_001:
-        matchedSpecNo = conditions.matchesNo001();
-        break;
-      case SpecNo.NO_002:
-        matchedSpecNo = conditions.matchesNo002();
-        break;
-      case SpecNo.NO_003:
-        matchedSpecNo = conditions.matchesNo003();
-        break;
-      case SpecNo.NO_004:
-        matchedSpecNo = conditions.matchesNo004();
-        break;
-      case SpecNo.NO_005:
-        matchedSpecNo = conditions.matchesNo005();
-        break;
-      case SpecNo.NO_006:
-        matchedSpecNo = conditions.matchesNo006();
-        break;
-      case SpecNo.NO_007:
-        matchedSpecNo = conditions.matchesNo007();
-        break;
-      case SpecNo.NO_008:
-        matchedSpecNo = conditions.matchesNo008();
-        break;
-      case SpecNo.NO_009:
-        matchedSpecNo = conditions.matchesNo009();
-        break;
-      case SpecNo.NO_010:
-        matchedSpecNo = conditions.matchesNo010();
-        break;
-      default:
-        // do nothing.
-        break;
-    }
-
-    return matchedSpecNo;
-  }
-
-  /**
-   * 最終的な制御内容を制御内容Mapに設定します.
-   * 設定処理を行います.
-   *
-   * @param rule ルール
-   * @param specMap 制御仕様Map
-   * @param matchedSpecNoSet 条件に該当した制御仕様番号セット
-   */
-  private void organizeControlContents(RuleConditions rule, Map<String, ControlSpecifications> specMap, Set<String> matchedSpecNoSet) {
-
-    for (Entry<String, ControlSpecifications> specEntry : specMap.entrySet()) {
-      for (int i = 0; i < specEntry.getValue().getControlSpecNos().size(); i++) {
-        ControlSpecifications specs = specEntry.getValue();
-        if (matchedSpecNoSet.contains(specs.getControlSpecNos().get(i))) {
-          ControlContent controlContent = ControlContent.decode(specs.getControlContents().get(i));
-          if (ControlContent.SET == controlContent) {
-            controlContent = rule.updateValue(specEntry.getKey(), specs.getControlSpecNos().get(i));
-            log.debug("Executed the SET specification {}", specs.getControlSpecNos().get(i));
-          }
-          controlContents.put(specEntry.getKey(), controlContent);
-          break;
-        }
-      }
-    }
-  }
 }
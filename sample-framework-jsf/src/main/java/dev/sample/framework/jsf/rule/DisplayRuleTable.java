@@ -0,0 +1,152 @@
+package dev.sample.framework.jsf.rule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigBeanFactory;
+import com.typesafe.config.ConfigFactory;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <PRE>
+ * 表示制御の制御仕様表(コンパイル済み).
+ * イベントごとに設定ファイルを1回だけ解析し、制御仕様番号を連番に置き換えた配列として保持します.
+ * 制御仕様表は不変のため、全ての画面({@link DisplayController})で共有します.
+ * </PRE>
+ */
+@Slf4j
+final class DisplayRuleTable {
+
+  /** 設定ファイル名. */
+  private static final String RULE_CONFIG_NAME = "displayRule";
+  /** キー情報：制御仕様番号（親）. */
+  private static final String KEY_CTR_SPEC_PR_NOS = ".controlSpecParentNos";
+  /** キー情報：制御仕様. */
+  private static final String KEY_CTR_ITEMS = ".controlItems";
+
+  /** 制御仕様表のキャッシュ(Key:イベント名). */
+  private static final ConcurrentMap<String, DisplayRuleTable> TABLES = new ConcurrentHashMap<>();
+
+  /** 制御仕様番号（親）のリスト. */
+  @Getter
+  private final List<String> specParentNos;
+
+  /** 制御仕様番号(連番をインデックスとする配列). */
+  private final String[] specNos;
+
+  /** 制御仕様番号の連番(Key:制御仕様番号、Value:連番). */
+  private final Map<String, Integer> specNoIndexes;
+
+  /** 項目IDの配列. */
+  private final String[] itemIds;
+
+  /** 項目ごとの制御仕様番号の連番の配列({@link #itemIds}の順). */
+  private final int[][] itemSpecNos;
+
+  /** 項目ごとの制御内容の配列({@link #itemSpecNos}と同じ順). */
+  private final ControlContent[][] itemContents;
+
+  /**
+   * コンストラクター.
+   *
+   * @param eventName イベント名
+   */
+  private DisplayRuleTable(String eventName) {
+    Config config = ConfigFactory.load(RULE_CONFIG_NAME);
+    this.specParentNos = Collections.unmodifiableList(config.getStringList(eventName + KEY_CTR_SPEC_PR_NOS));
+
+    List<String> controlItems = config.getStringList(eventName + KEY_CTR_ITEMS);
+    Map<String, Integer> indexes = new HashMap<>();
+    this.itemIds = controlItems.toArray(new String[0]);
+    this.itemSpecNos = new int[itemIds.length][];
+    this.itemContents = new ControlContent[itemIds.length][];
+    for (int i = 0; i < itemIds.length; i++) {
+      ControlSpecifications specs = ConfigBeanFactory.create(config.getConfig(itemIds[i]), ControlSpecifications.class);
+      int size = specs.getControlSpecNos().size();
+      itemSpecNos[i] = new int[size];
+      itemContents[i] = new ControlContent[size];
+      for (int j = 0; j < size; j++) {
+        itemSpecNos[i][j] = indexes.computeIfAbsent(specs.getControlSpecNos().get(j), specNo -> indexes.size());
+        itemContents[i][j] = ControlContent.decode(specs.getControlContents().get(j));
+      }
+    }
+
+    this.specNos = new String[indexes.size()];
+    indexes.forEach((specNo, index) -> specNos[index] = specNo);
+    this.specNoIndexes = Collections.unmodifiableMap(indexes);
+  }
+
+  /**
+   * イベントの制御仕様表を取得します.
+   * イベントごとに初回のみ設定ファイルを解析し、以降はキャッシュを返却します.
+   *
+   * @param eventName イベント名
+   * @return 制御仕様表
+   */
+  static DisplayRuleTable of(String eventName) {
+    return TABLES.computeIfAbsent(eventName, DisplayRuleTable::new);
+  }
+
+  /**
+   * 条件に該当した制御仕様番号の判定結果を生成します.
+   *
+   * @return 判定結果(制御仕様番号の連番をインデックスとする配列)
+   */
+  boolean[] newMatches() {
+    return new boolean[specNos.length];
+  }
+
+  /**
+   * 条件に該当した制御仕様番号を判定結果に設定します.
+   * 制御仕様表で使用されていない制御仕様番号は無視します.
+   *
+   * @param matches 判定結果
+   * @param specNo 条件に該当した制御仕様番号
+   */
+  void match(boolean[] matches, String specNo) {
+    Integer index = specNoIndexes.get(specNo);
+    if (index != null) {
+      matches[index] = true;
+    }
+  }
+
+  /**
+   * 判定結果に従い、項目ごとの制御内容を制御内容Mapに設定します.
+   * 項目ごとに、条件に該当した最初の制御仕様の制御内容を設定します.
+   *
+   * @param rule ルール・条件
+   * @param matches 判定結果
+   * @param controlContents 制御内容Map（Key:項目ID、Value:制御内容）
+   */
+  void apply(RuleConditions rule, boolean[] matches, Map<String, ControlContent> controlContents) {
+    for (int i = 0; i < itemIds.length; i++) {
+      int[] indexes = itemSpecNos[i];
+      for (int j = 0; j < indexes.length; j++) {
+        if (matches[indexes[j]]) {
+          ControlContent controlContent = itemContents[i][j];
+          if (ControlContent.SET == controlContent) {
+            controlContent = rule.updateValue(itemIds[i], specNos[indexes[j]]);
+            log.debug("Executed the SET specification {}", specNos[indexes[j]]);
+          }
+          controlContents.put(itemIds[i], controlContent);
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return "DisplayRuleTable(specParentNos=" + specParentNos + ", specNos=" + Arrays.toString(specNos) + ", itemIds="
+        + Arrays.toString(itemIds) + ")";
+  }
+}
@@ -6,6 +6,7 @@ import dev.sample.framework.jsf.exception.UndefinedRuleException;
 
 /**
  * ルール・条件.
+ * 制御仕様番号（親）001～010のルールは本インターフェースのメソッドを、それ以外のルールは{@link RuleSpec}を付与したメソッドを実装してください.
  */
 public interface RuleConditions {
 
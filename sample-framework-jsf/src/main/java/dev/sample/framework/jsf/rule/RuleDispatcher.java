@@ -0,0 +1,160 @@
+package dev.sample.framework.jsf.rule;
+
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.exception.dto.ErrorMessage;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.jsf.exception.UndefinedRuleException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <PRE>
+ * ルールの呼び出し定義.
+ * {@link RuleConditions}の実装クラスごとに、制御仕様番号（親）とルールのメソッドの対応を{@link MethodHandle}で解決してキャッシュします.
+ * ルールは{@link RuleSpec}を付与したメソッドと、制御仕様番号（親）{@link SpecNo#NO_001}～{@link SpecNo#NO_010}に対応する
+ * {@link RuleConditions#matchesNo001()}～{@link RuleConditions#matchesNo010()}です({@link RuleSpec}の定義を優先します).
+ * </PRE>
+ */
+final class RuleDispatcher {
+
+  /** 呼び出し定義のキャッシュ. */
+  private static final ConcurrentMap<Class<?>, RuleDispatcher> CACHE = new ConcurrentHashMap<>();
+
+  /** 制御仕様番号（親）に対応するメソッド名(Key:制御仕様番号（親）、Value:メソッド名). */
+  private static final Map<String, String> DEFAULT_RULES;
+
+  static {
+    Map<String, String> defaultRules = new HashMap<>();
+    defaultRules.put(SpecNo.NO_001, "matchesNo001");
+    defaultRules.put(SpecNo.NO_002, "matchesNo002");
+    defaultRules.put(SpecNo.NO_003, "matchesNo003");
+    defaultRules.put(SpecNo.NO_004, "matchesNo004");
+    defaultRules.put(SpecNo.NO_005, "matchesNo005");
+    defaultRules.put(SpecNo.NO_006, "matchesNo006");
+    defaultRules.put(SpecNo.NO_007, "matchesNo007");
+    defaultRules.put(SpecNo.NO_008, "matchesNo008");
+    defaultRules.put(SpecNo.NO_009, "matchesNo009");
+    defaultRules.put(SpecNo.NO_010, "matchesNo010");
+    DEFAULT_RULES = Collections.unmodifiableMap(defaultRules);
+  }
+
+  /** ルール(Key:制御仕様番号（親）、Value:ルールのメソッド). */
+  private final Map<String, MethodHandle> rules;
+
+  /**
+   * コンストラクター.
+   *
+   * @param ruleType ルール・条件クラス
+   */
+  private RuleDispatcher(Class<?> ruleType) {
+    this.rules = resolve(ruleType);
+  }
+
+  /**
+   * 呼び出し定義を取得します.
+   * ルール・条件クラスごとに初回のみ解析し、以降はキャッシュを返却します.
+   *
+   * @param ruleType ルール・条件クラス
+   * @return 呼び出し定義
+   */
+  static RuleDispatcher of(Class<? extends RuleConditions> ruleType) {
+    return CACHE.computeIfAbsent(ruleType, RuleDispatcher::new);
+  }
+
+  /**
+   * 制御仕様番号（親）のルールを実行し、条件に該当した制御仕様番号を判定結果に設定します.
+   * 判定結果に設定済みの制御仕様番号（親）は実行しません.
+   * ルールが存在しない制御仕様番号（親）の判定結果はnull(該当なし)とします.
+   *
+   * @param rule ルール・条件
+   * @param specParentNos 制御仕様番号（親）のリスト
+   * @param results 判定結果(Key:制御仕様番号（親）、Value:条件に該当した制御仕様番号)
+   */
+  void evaluate(RuleConditions rule, List<String> specParentNos, Map<String, String> results) {
+    for (String specParentNo : specParentNos) {
+      if (results.containsKey(specParentNo)) {
+        continue;
+      }
+
+      MethodHandle handle = rules.get(specParentNo);
+      results.put(specParentNo, handle == null ? null : invoke(handle, rule));
+    }
+  }
+
+  /**
+   * ルールのメソッドを実行します.
+   *
+   * @param handle ルールのメソッド
+   * @param rule ルール・条件
+   * @return 条件に該当した制御仕様番号
+   */
+  private static String invoke(MethodHandle handle, RuleConditions rule) {
+    try {
+      return (String) handle.invokeExact((Object) rule);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new SystemException(e);
+    }
+  }
+
+  /**
+   * ルールを解決します.
+   *
+   * @param ruleType ルール・条件クラス
+   * @return ルール(Key:制御仕様番号（親）、Value:ルールのメソッド)
+   */
+  private static Map<String, MethodHandle> resolve(Class<?> ruleType) {
+    for (Class<?> type = ruleType; type != null && type != Object.class; type = type.getSuperclass()) {
+      for (Method method : type.getDeclaredMethods()) {
+        if (method.isAnnotationPresent(RuleSpec.class) && !Modifier.isPublic(method.getModifiers())) {
+          throw new UndefinedRuleException(null, new ErrorMessage(CoreMessageId.F1008E, method.toGenericString()));
+        }
+      }
+    }
+
+    Map<String, Method> methods = new HashMap<>();
+    for (Method method : ruleType.getMethods()) {
+      RuleSpec ruleSpec = method.getAnnotation(RuleSpec.class);
+      if (ruleSpec == null || method.isBridge()) {
+        continue;
+      }
+      if (method.getParameterCount() != 0 || method.getReturnType() != String.class) {
+        throw new UndefinedRuleException(null, new ErrorMessage(CoreMessageId.F1008E, method.toGenericString()));
+      }
+      Method duplicate = methods.put(ruleSpec.value(), method);
+      if (duplicate != null) {
+        throw new UndefinedRuleException(null, new ErrorMessage(CoreMessageId.F1007E, ruleSpec.value(), duplicate.getName(), method.getName()));
+      }
+    }
+
+    Map<String, MethodHandle> handles = new HashMap<>();
+    try {
+      for (Map.Entry<String, String> defaultRule : DEFAULT_RULES.entrySet()) {
+        if (!methods.containsKey(defaultRule.getKey())) {
+          methods.put(defaultRule.getKey(), ruleType.getMethod(defaultRule.getValue()));
+        }
+      }
+      for (Map.Entry<String, Method> method : methods.entrySet()) {
+        // publicでないクラスのメソッドも呼び出せるようにアクセスチェックを抑止
+        method.getValue().setAccessible(true);
+        handles.put(method.getKey(),
+            MethodHandles.lookup().unreflect(method.getValue()).asType(MethodType.methodType(String.class, Object.class)));
+      }
+
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new SystemException(e);
+
+    }
+    return Collections.unmodifiableMap(handles);
+  }
+}
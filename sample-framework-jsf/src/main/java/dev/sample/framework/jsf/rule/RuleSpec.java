@@ -0,0 +1,34 @@
+package dev.sample.framework.jsf.rule;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <PRE>
+ * ルール定義.
+ * {@link RuleConditions}の実装クラスのメソッドに付与し、制御仕様番号（親）に対応するルールとして登録します.
+ * メソッドは引数なし、戻り値がString(条件にマッチした制御仕様番号、マッチしない場合はnull)のpublicメソッドとしてください.
+ *
+ * 例:
+ *   &#64;RuleSpec("011")
+ *   public String matchesSearched() {
+ *     return searched ? "011-01" : null;
+ *   }
+ * </PRE>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface RuleSpec {
+
+  /**
+   * 制御仕様番号（親）.
+   *
+   * @return 制御仕様番号（親）
+   */
+  String value();
+
+}
@@ -12,6 +12,8 @@ public final class CommonReqParam {
   public static final String LIMIT = "limit";
   /** ソート条件. */
   public static final String SORT = "sort";
+  /** カーソル(キーセットページング). */
+  public static final String CURSOR = "cursor";
 
   /**
    * デフォルトコンストラクター.
@@ -0,0 +1,38 @@
+package dev.sample.framework.rest.pres.resource;
+
+import dev.sample.framework.core.metrics.MetricsRegistry;
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+
+/**
+ * <PRE>
+ * メトリクスリソース.
+ * {@link MetricsRegistry}に登録されたメトリクスをPrometheusテキスト形式で返却します.
+ * メトリクスにはEntity名、リソースメソッド名などの内部情報が含まれるため、フレームワークでは公開しません.
+ * 公開する場合は、アプリケーションで本クラスを継承したクラスに{@link javax.ws.rs.Path}を付与し、認証などのアクセス制御を行ってください.
+ * 本リソースへのリクエストはアクセスログ、性能ログに出力しません.
+ *
+ * 例:
+ *   &#64;ApplicationScoped
+ *   &#64;Path("metrics")
+ *   public class AppMetricsResource extends MetricsResource {
+ *   }
+ * </PRE>
+ */
+public abstract class MetricsResource {
+
+  /** Prometheusテキスト形式のContent-Type. */
+  public static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+  /**
+   * メトリクスを取得します.
+   *
+   * @return Prometheusテキスト形式のメトリクス
+   */
+  @GET
+  @Produces(PROMETHEUS_TEXT)
+  public String scrape() {
+    return MetricsRegistry.scrape();
+  }
+
+}
@@ -3,7 +3,9 @@ package dev.sample.framework.rest.provider.filter;
 import dev.sample.common.constant.Encoding;
 import dev.sample.framework.core.code.LoggerVo;
 import dev.sample.framework.core.constant.PrioritiesExt;
+import dev.sample.framework.core.metrics.MetricsRegistry;
 import dev.sample.framework.rest.pres.dto.ResponseBaseDto;
+import dev.sample.framework.rest.pres.resource.MetricsResource;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -29,6 +31,7 @@ import org.slf4j.MDC;
 
 /**
  * ログ出力フィルター.
+ * メトリクスの取得({@link MetricsResource})は定期的に実行されるため、ログ出力、メトリクスの記録の対象外とします.
  */
 @Provider
 @Priority(PrioritiesExt.FRAMEWORK)
@@ -37,9 +40,18 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
   /** MDC Key - start time. */
   private static final String START_TIME = "start-time";
 
+  /** Request Property - start time(nano). */
+  private static final String START_NANOS = LoggingFilter.class.getName() + ".startNanos";
+
   /** Logging Header Template. */
   private static final String DUMP_TEMPLATE = "%-20s%s\n";
 
+  /** メトリクス名：リクエスト処理時間. */
+  private static final String METRIC_REQUEST = "framework_rest_request_seconds";
+
+  /** サーバーエラーのステータスコード(下限). */
+  private static final int STATUS_SERVER_ERROR = 500;
+
   /** Performance Logger. */
   private static final Logger PERFORMANCE_LOGGER = LoggerFactory.getLogger(LoggerVo.PERFORMANCE_LOGGER.getCode());
   /** Access Logger. */
@@ -57,7 +69,11 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
    */
   @Override
   public void filter(ContainerRequestContext context) throws IOException {
+    if (isExcluded()) {
+      return;
+    }
     MDC.put(START_TIME, String.valueOf(System.currentTimeMillis()));
+    context.setProperty(START_NANOS, System.nanoTime());
     logAccess(context);
     logRequest(context);
     logRequestBody(context);
@@ -71,6 +87,10 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
    */
   @Override
   public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+    if (isExcluded()) {
+      MDC.clear();
+      return;
+    }
     // エラー時はContainerRequest.filterを通らないので、レスポンス時に出力
     String startTime = MDC.get(START_TIME);
     if (startTime == null || startTime.isEmpty()) {
@@ -82,6 +102,7 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
 
     }
 
+    recordMetrics(requestContext, responseContext);
     logResponse(responseContext);
     // clear the context on exit
     MDC.clear();
@@ -94,10 +115,24 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
    */
   @Override
   public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+    if (isExcluded()) {
+      context.proceed();
+      return;
+    }
     logResponseBody(context);
 
   }
 
+  /**
+   * ログ出力の対象外のリソースか判定します.
+   *
+   * @return 対象外の場合はtrue
+   */
+  private boolean isExcluded() {
+    Class<?> resourceClass = resourceInfo.getResourceClass();
+    return resourceClass != null && MetricsResource.class.isAssignableFrom(resourceClass);
+  }
+
   /**
    * リクエスト情報をログ出力します.
    *
@@ -219,6 +254,24 @@ public class LoggingFilter implements ContainerRequestFilter, ContainerResponseF
         context.getUriInfo().getPath(), context.getMethod(), resourceInfo.getResourceMethod().getName());
   }
 
+  /**
+   * リクエストの処理時間をメトリクスに記録します.
+   * 5XXのレスポンスはエラーとして記録します.
+   *
+   * @param requestContext ContainerRequestContext
+   * @param responseContext ContainerResponseContext
+   */
+  private void recordMetrics(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+    Object startNanos = requestContext.getProperty(START_NANOS);
+    if (!(startNanos instanceof Long) || resourceInfo.getResourceMethod() == null) {
+      return;
+    }
+
+    String resource = resourceInfo.getResourceClass().getSimpleName() + "#" + resourceInfo.getResourceMethod().getName();
+    MetricsRegistry.timer(METRIC_REQUEST, "REST request time in seconds.", "method", requestContext.getMethod(), "resource", resource)
+        .record(System.nanoTime() - (Long) startNanos, responseContext.getStatus() >= STATUS_SERVER_ERROR);
+  }
+
   /**
    * パラメーター情報をダンプします.
    *
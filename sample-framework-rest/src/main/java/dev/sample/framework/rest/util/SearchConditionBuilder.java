@@ -1,13 +1,23 @@
 package dev.sample.framework.rest.util;
 
+import dev.sample.framework.core.data.condition.CountMode;
 import dev.sample.framework.core.data.condition.FilterDo;
+import dev.sample.framework.core.data.condition.Operator;
+import dev.sample.framework.core.data.condition.PredicateDo;
 import dev.sample.framework.core.data.condition.SearchConditionDo;
 import dev.sample.framework.core.data.condition.SortDo;
+import dev.sample.framework.core.exception.ApplicationException;
+import dev.sample.framework.core.exception.SystemException;
+import dev.sample.framework.core.exception.dto.ErrorMessage;
+import dev.sample.framework.core.message.CoreMessageId;
+import dev.sample.framework.core.util.JsonUtils;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 
@@ -15,9 +25,15 @@ import org.apache.commons.lang3.StringUtils;
  * 検索条件DOビルダー.
  */
 @NoArgsConstructor
-@AllArgsConstructor
 public class SearchConditionBuilder {
 
+  /** 検索条件式：演算子の区切り文字. */
+  private static final String OPERATOR_SEPARATOR = ":";
+  /** 検索条件式：値の区切り文字. */
+  private static final String VALUE_SEPARATOR = ",";
+  /** 検索条件式：OR条件の区切り文字. */
+  private static final String OR_SEPARATOR = "|";
+
   /** Offset(default: 0). */
   private int offset = 0;
 
@@ -27,9 +43,49 @@ public class SearchConditionBuilder {
   /** ソート条件((default: empty string)). */
   private String sort = StringUtils.EMPTY;
 
+  /**
+   * カーソル(default: null).
+   * nullの場合はoffsetによるページング、空文字の場合はキーセットページングの先頭ページ、
+   * それ以外の場合は前回応答したカーソル以降をキーセットページングで検索します.
+   */
+  private String cursor = null;
+
   /** クエリパラメータMap. */
   private final Map<String, Object> queryParams = new LinkedHashMap<>();
 
+  /** 検索条件(述語)のリスト. */
+  private final List<PredicateDo> predicates = new ArrayList<>();
+
+  /** 全件数の取得方法(default: EXACT). */
+  private CountMode countMode = CountMode.EXACT;
+
+  /**
+   * コンストラクター.
+   *
+   * @param offset Offset
+   * @param limit 取得件数
+   * @param sort ソート条件
+   */
+  public SearchConditionBuilder(int offset, int limit, String sort) {
+    this(offset, limit, sort, null);
+  }
+
+  /**
+   * コンストラクター.
+   * 全件数の取得方法は{@link #countMode(CountMode)}で設定します.
+   *
+   * @param offset Offset
+   * @param limit 取得件数
+   * @param sort ソート条件
+   * @param cursor カーソル
+   */
+  public SearchConditionBuilder(int offset, int limit, String sort, String cursor) {
+    this.offset = offset;
+    this.limit = limit;
+    this.sort = sort;
+    this.cursor = cursor;
+  }
+
   /**
    * クエリパラメータMapにパラメーターを格納します.
    * 格納順番がそのままwhere節の出力順となる為、アクセスパスを考慮して格納すること.
@@ -45,6 +101,69 @@ public class SearchConditionBuilder {
     return this;
   }
 
+  /**
+   * 検索条件式を解析し、検索条件(述語)を格納します.
+   * 検索条件式は「演算子:値」形式で指定します. 演算子を省略した場合は一致条件となります.
+   * 値に「:」を含む場合は演算子を省略できません.
+   * <ul>
+   * <li>eq:値 / ne:値 / lt:値 / le:値 / gt:値 / ge:値</li>
+   * <li>bt:下限値,上限値 (範囲)</li>
+   * <li>in:値1,値2,... (いずれかに一致)</li>
+   * <li>sw:値 (前方一致)</li>
+   * <li>null / notnull</li>
+   * </ul>
+   * 「|」で区切った場合はOR条件となります. ex. {@code lt:10|null}
+   *
+   * @param column 項目
+   * @param expression 検索条件式
+   * @return クエリビルダー
+   */
+  public SearchConditionBuilder putPredicate(String column, String expression) {
+    if (StringUtils.isEmpty(expression)) {
+      return this;
+    }
+
+    String[] terms = StringUtils.split(expression, OR_SEPARATOR);
+    if (terms.length == 1) {
+      predicates.add(parsePredicate(column, terms[0]));
+
+    } else {
+      PredicateDo or = PredicateDo.builder().operator(Operator.OR).build();
+      for (String term : terms) {
+        or.getPredicates().add(parsePredicate(column, term));
+      }
+      predicates.add(or);
+
+    }
+    return this;
+  }
+
+  /**
+   * 検索条件(述語)を格納します.
+   *
+   * @param predicate {@link PredicateDo} 検索条件(述語)DO
+   * @return クエリビルダー
+   */
+  public SearchConditionBuilder putPredicate(PredicateDo predicate) {
+    if (predicate != null) {
+      predicates.add(predicate);
+    }
+    return this;
+  }
+
+  /**
+   * 全件数の取得方法を設定します.
+   *
+   * @param countMode 全件数の取得方法
+   * @return クエリビルダー
+   */
+  public SearchConditionBuilder countMode(CountMode countMode) {
+    if (countMode != null) {
+      this.countMode = countMode;
+    }
+    return this;
+  }
+
   /**
    * 検索条件DOの作成.
    *
@@ -52,12 +171,103 @@ public class SearchConditionBuilder {
    */
   public SearchConditionDo build() {
     return SearchConditionDo.builder()
-        .filter(FilterDo.builder().offset(offset).limit(limit).build())
+        .filter(FilterDo.builder()
+            .offset(offset)
+            .limit(limit)
+            .countMode(countMode)
+            .keyset(cursor != null)
+            .lastKeys(decodeCursor(cursor))
+            .build())
         .sortList(createSortDos(sort))
         .queryParams(queryParams)
+        .predicates(predicates)
         .build();
   }
 
+  /**
+   * 検索結果から次ページ検索用のカーソルを作成します.
+   * 検索後の{@link FilterDo#getNextKeys()}をURLセーフなBase64文字列に変換します.
+   *
+   * @param filter {@link FilterDo} 検索後のフィルター設定DO
+   * @return カーソル、次ページが存在しない場合はnull
+   */
+  public static String createCursor(FilterDo filter) {
+    if (filter.getNextKeys() == null) {
+      return null;
+    }
+    String json = JsonUtils.writeValue(filter.getNextKeys());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * カーソルを前ページ最終行のソートキー値のリストに変換します.
+   *
+   * @param cursorStr カーソル
+   * @return ソートキー値のリスト、カーソルが未指定の場合はnull
+   */
+  @SuppressWarnings("unchecked")
+  private List<Object> decodeCursor(String cursorStr) {
+    if (StringUtils.isEmpty(cursorStr)) {
+      return null;
+    }
+    try {
+      String json = new String(Base64.getUrlDecoder().decode(cursorStr), StandardCharsets.UTF_8);
+      return JsonUtils.readValue(json, List.class);
+
+    } catch (IllegalArgumentException | SystemException e) {
+      throw new ApplicationException(e, new ErrorMessage(CoreMessageId.F0016E, cursorStr));
+
+    }
+  }
+
+  /**
+   * 検索条件式を解析し、検索条件(述語)DOを作成します.
+   *
+   * @param column 項目
+   * @param term 検索条件式(OR条件で区切られた単位)
+   * @return {@link PredicateDo} 検索条件(述語)DO
+   */
+  private PredicateDo parsePredicate(String column, String term) {
+    if (!term.contains(OPERATOR_SEPARATOR)) {
+      switch (term.toLowerCase()) {
+        case "null":
+          return PredicateDo.isNull(column);
+        case "notnull":
+          return PredicateDo.isNotNull(column);
+        default:
+          return PredicateDo.eq(column, term);
+      }
+    }
+
+    String value = StringUtils.substringAfter(term, OPERATOR_SEPARATOR);
+    switch (StringUtils.substringBefore(term, OPERATOR_SEPARATOR).toLowerCase()) {
+      case "eq":
+        return PredicateDo.eq(column, value);
+      case "ne":
+        return PredicateDo.ne(column, value);
+      case "lt":
+        return PredicateDo.lt(column, value);
+      case "le":
+        return PredicateDo.le(column, value);
+      case "gt":
+        return PredicateDo.gt(column, value);
+      case "ge":
+        return PredicateDo.ge(column, value);
+      case "bt":
+        String[] range = StringUtils.split(value, VALUE_SEPARATOR);
+        if (range.length != 2) {
+          throw new ApplicationException(null, new ErrorMessage(CoreMessageId.F0017E, term));
+        }
+        return PredicateDo.between(column, range[0], range[1]);
+      case "in":
+        return PredicateDo.in(column, Arrays.asList(StringUtils.split(value, VALUE_SEPARATOR)));
+      case "sw":
+        return PredicateDo.startsWith(column, value);
+      default:
+        throw new ApplicationException(null, new ErrorMessage(CoreMessageId.F0017E, term));
+    }
+  }
+
   /**
    * ソート順DOの作成.
    * fieldName[:asc or desc],fieldName...形式のソート文字列を分解し、ソート順DOを作成します.